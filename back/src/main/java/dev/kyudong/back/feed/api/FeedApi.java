@@ -41,8 +41,8 @@ public interface FeedApi {
 							examples = @ExampleObject(value =
 									"""
 									{
-									  "lastFeedId": null,
-									  "hasNext": false,
+									  "hasNext": true,
+									  "nextCursor": "m3k9x2a1_20",
 									  "content": [
 										{
 										  "postId": 96,
@@ -63,8 +63,8 @@ public interface FeedApi {
 	ResponseEntity<FeedListResDto> findFeeds(
 			@Parameter(hidden = true, description = "로그인 사용자의 정보")
 			@AuthenticationPrincipal CustomUserPrincipal userPrincipal,
-			@Parameter(name = "page", description = "마지막으로 조회한 피드의 아이디 (두 번째 페이지부터 사용됩니다)", example = "1")
-			@RequestParam(required = false) int page,
+			@Parameter(name = "cursor", description = "이전 응답의 nextCursor (두 번째 페이지부터 사용됩니다)", example = "m3k9x2a1_20")
+			@RequestParam(required = false) String cursor,
 			@CookieValue(name = GuestIdInterceptor.GUEST_ID_COOKIE_NAME, required = false) String guestId
 	);
 
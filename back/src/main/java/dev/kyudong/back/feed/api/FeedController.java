@@ -20,14 +20,14 @@ public class FeedController implements FeedApi {
 	@GetMapping
 	public ResponseEntity<FeedListResDto> findFeeds(
 			@AuthenticationPrincipal CustomUserPrincipal userPrincipal,
-			@RequestParam(required = false, defaultValue = "0") int page,
+			@RequestParam(required = false) String cursor,
 			@RequestAttribute(name = GuestIdInterceptor.GUEST_ID_COOKIE_NAME, required = false) String guestId
 	) {
 		boolean isLoggedIn = userPrincipal != null;
 
 		FeedListResDto response = isLoggedIn
-				? feedService.findFeedsWithUser(userPrincipal.getId(), page)
-				: feedService.findFeedsWithGuset(guestId, page);
+				? feedService.findFeedsWithUser(userPrincipal.getId(), cursor)
+				: feedService.findFeedsWithGuset(guestId, cursor);
 
 		return ResponseEntity.ok(response);
 	}
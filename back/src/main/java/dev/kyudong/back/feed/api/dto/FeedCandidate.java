@@ -0,0 +1,22 @@
+package dev.kyudong.back.feed.api.dto;
+
+import java.time.Instant;
+
+/**
+ * 피드 순위 계산에 필요한 게시글 정보입니다
+ */
+public record FeedCandidate(
+		long postId,
+		long authorId,
+		long viewCount,
+		long commentCount,
+		double score,
+		Instant createdAt
+) {
+	public static FeedCandidate from(PostFeedDto dto) {
+		return new FeedCandidate(
+				dto.postId(), dto.authorId(), dto.viewCount(),
+				dto.commentCount(), dto.score(), dto.createdAt()
+		);
+	}
+}
@@ -0,0 +1,51 @@
+package dev.kyudong.back.feed.api.dto;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 피드 스냅샷 안에서의 읽기 위치입니다.
+ * {@code snapshotId}가 없다면 최신 스냅샷을 의미합니다
+ * @param snapshotId	스냅샷 아이디
+ * @param offset		다음에 읽을 위치
+ */
+public record FeedCursor(
+		String snapshotId,
+		int offset
+) {
+	private static final String DELIMITER = "_";
+
+	public static FeedCursor first() {
+		return new FeedCursor(null, 0);
+	}
+
+	/**
+	 * 클라이언트가 전달한 커서를 해석합니다, 형식이 잘못되었다면 첫 페이지로 취급합니다
+	 * @param cursor	{@link #encode()}로 만든 문자열
+	 * @return 커서
+	 */
+	public static FeedCursor parse(String cursor) {
+		if (!StringUtils.hasText(cursor)) {
+			return first();
+		}
+
+		try {
+			int index = cursor.lastIndexOf(DELIMITER);
+			if (index < 0) {
+				return new FeedCursor(null, Math.max(0, Integer.parseInt(cursor)));
+			}
+			String snapshotId = cursor.substring(0, index);
+			int offset = Integer.parseInt(cursor.substring(index + 1));
+			return new FeedCursor(StringUtils.hasText(snapshotId) ? snapshotId : null, Math.max(0, offset));
+		} catch (NumberFormatException e) {
+			return first();
+		}
+	}
+
+	public String encode() {
+		return snapshotId == null ? String.valueOf(offset) : snapshotId + DELIMITER + offset;
+	}
+
+	public boolean isLatest() {
+		return snapshotId == null;
+	}
+}
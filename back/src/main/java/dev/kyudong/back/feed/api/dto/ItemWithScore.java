@@ -1,4 +1,4 @@
 package dev.kyudong.back.feed.api.dto;
 
-public record ItemWithScore(PostFeedDto detailResDto, double postScore) {
+public record ItemWithScore(FeedCandidate candidate, double postScore) {
 }
@@ -1,9 +1,15 @@
 package dev.kyudong.back.feed.api.dto;
 
+import dev.kyudong.back.interaction.domain.InteractionType;
 import dev.kyudong.back.post.domain.entity.PostStatus;
 
 import java.time.Instant;
+import java.util.Map;
 
+/**
+ * @param content			본문, 피드 카드에는 {@link dev.kyudong.back.feed.service.FeedContentPreview}가 줄인 미리보기가 담깁니다
+ * @param interactionCounts	상호작용 유형별 수, 피드 카드 캐시에서 채워지며 0인 유형은 포함하지 않습니다
+ */
 public record PostFeedDto(
 		Long postId,
 		Long authorId,
@@ -15,6 +21,27 @@ public record PostFeedDto(
 		long commentCount,
 		double score,
 		Instant createdAt,
-		Instant modifiedAt
+		Instant modifiedAt,
+		Map<InteractionType, Long> interactionCounts
 ) {
+	public PostFeedDto {
+		// 유형별 수가 추가되기 전에 캐싱된 카드에는 값이 없습니다
+		interactionCounts = interactionCounts == null ? Map.of() : interactionCounts;
+	}
+
+	public PostFeedDto(Long postId, Long authorId, String username, String subject, String content, PostStatus status,
+					   long viewCount, long commentCount, double score, Instant createdAt, Instant modifiedAt) {
+		this(postId, authorId, username, subject, content, status, viewCount, commentCount, score,
+				createdAt, modifiedAt, Map.of());
+	}
+
+	public PostFeedDto withContent(String content) {
+		return new PostFeedDto(postId, authorId, username, subject, content, status, viewCount, commentCount, score,
+				createdAt, modifiedAt, interactionCounts);
+	}
+
+	public PostFeedDto withInteractionCounts(Map<InteractionType, Long> interactionCounts) {
+		return new PostFeedDto(postId, authorId, username, subject, content, status, viewCount, commentCount, score,
+				createdAt, modifiedAt, interactionCounts);
+	}
 }
@@ -0,0 +1,10 @@
+package dev.kyudong.back.feed.api.dto;
+
+/**
+ * 오래된 게시글 표본 추출에 사용하는 게시글 아이디와 점수입니다
+ */
+public record PostScoreDto(
+		long postId,
+		double score
+) {
+}
@@ -1,10 +1,12 @@
 package dev.kyudong.back.feed.api.dto.res;
 
 import dev.kyudong.back.feed.api.dto.PostFeedDto;
+import dev.kyudong.back.interaction.domain.InteractionType;
 import dev.kyudong.back.post.domain.entity.PostStatus;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
 
 public record FeedContent(
 		long postId,
@@ -14,14 +16,16 @@ public record FeedContent(
 		long commentCount,
 		PostStatus status,
 		LocalDateTime createdAt,
-		LocalDateTime modifiedAt
+		LocalDateTime modifiedAt,
+		Map<InteractionType, Long> interactionCounts
 ) {
 	public static FeedContent from(PostFeedDto dto) {
 		return new FeedContent(
 				dto.postId(), dto.subject(), dto.content(),
 				dto.viewCount(), dto.commentCount(), dto.status(),
 				LocalDateTime.ofInstant(dto.createdAt(), ZoneOffset.UTC),
-				LocalDateTime.ofInstant(dto.modifiedAt(), ZoneOffset.UTC)
+				LocalDateTime.ofInstant(dto.modifiedAt(), ZoneOffset.UTC),
+				dto.interactionCounts()
 		);
 	}
 }
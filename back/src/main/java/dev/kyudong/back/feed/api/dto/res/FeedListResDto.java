@@ -1,22 +1,31 @@
 package dev.kyudong.back.feed.api.dto.res;
 
 import dev.kyudong.back.feed.api.dto.PostFeedDto;
+import dev.kyudong.back.interaction.domain.InteractionType;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * @param myInteractions	로그인 사용자가 페이지의 게시글에 남긴 상호작용, 게스트이거나 없으면 비어 있습니다
+ */
 public record FeedListResDto(
 		boolean hasNext,
-		Integer nextPage,
-		List<FeedItemResDto> content
+		String nextCursor,
+		List<FeedItemResDto> content,
+		Map<Long, InteractionType> myInteractions
 ) {
 	public static FeedListResDto empty() {
-		return new FeedListResDto(false, 0, Collections.emptyList());
+		return new FeedListResDto(false, null, Collections.emptyList(), Collections.emptyMap());
 	}
-	public static FeedListResDto of(boolean hasNext, Integer nextPage, List<PostFeedDto> list) {
+	public static FeedListResDto of(boolean hasNext, String nextCursor, List<PostFeedDto> list) {
 		List<FeedItemResDto> content = list.stream()
 				.map(FeedItemResDto::from)
 				.toList();
-		return new FeedListResDto(hasNext, nextPage, content);
+		return new FeedListResDto(hasNext, nextCursor, content, Collections.emptyMap());
+	}
+	public FeedListResDto withMyInteractions(Map<Long, InteractionType> myInteractions) {
+		return new FeedListResDto(hasNext, nextCursor, content, myInteractions);
 	}
 }
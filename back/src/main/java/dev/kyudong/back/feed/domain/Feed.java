@@ -1,45 +0,0 @@
-package dev.kyudong.back.feed.domain;
-
-import dev.kyudong.back.post.domain.entity.Post;
-import dev.kyudong.back.user.domain.User;
-import jakarta.persistence.*;
-import lombok.AccessLevel;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-
-import java.time.Instant;
-
-@Entity
-@Getter
-@Table(name = "FEEDS")
-@EntityListeners(AuditingEntityListener.class)
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Feed {
-
-	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
-	@Column(name = "ID", updatable = false)
-	private Long id;
-
-	@ManyToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = "USER_ID", nullable = false)
-	private User user;
-
-	@ManyToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = "POST_ID", nullable = false)
-	private Post post;
-
-	@CreatedDate
-	@Column(name = "CREATED_AT", updatable = false)
-	private Instant createdAt;
-
-	@Builder
-	private Feed(User user, Post post) {
-		this.user = user;
-		this.post = post;
-	}
-
-}
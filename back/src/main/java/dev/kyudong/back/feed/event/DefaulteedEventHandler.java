@@ -1,57 +1,86 @@
 package dev.kyudong.back.feed.event;
 
-import dev.kyudong.back.feed.domain.Feed;
-import dev.kyudong.back.feed.repository.FeedRepository;
-import dev.kyudong.back.follow.domain.Follow;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.feed.repository.FeedInboxRepository;
+import dev.kyudong.back.feed.service.FeedCardCache;
+import dev.kyudong.back.feed.service.FeedPrewarmer;
 import dev.kyudong.back.follow.repository.FollowRepository;
+import dev.kyudong.back.interaction.api.dto.event.InteractionCountChangeEvent;
+import dev.kyudong.back.interaction.domain.TargetType;
+import dev.kyudong.back.post.domain.dto.event.PostChangeFeedEvent;
 import dev.kyudong.back.post.domain.dto.event.PostCreateFeedEvent;
-import dev.kyudong.back.user.domain.User;
+import dev.kyudong.back.user.api.dto.event.UserSignInEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DefaulteedEventHandler implements FeedEventHandler {
 
-	private final FeedRepository feedRepository;
+	private final FeedInboxRepository feedInboxRepository;
 	private final FollowRepository followRepository;
+	private final FeedProperties feedProperties;
+	private final FeedCardCache feedCardCache;
+	private final FeedPrewarmer feedPrewarmer;
 
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
 	public void handlePostCreate(PostCreateFeedEvent evnet) {
-		log.info("게시글 생성 이벤트 수신완료: postId={}", evnet.post().getId());
+		Long postId = evnet.post().getId();
+		Long authorId = evnet.author().getId();
+		log.info("게시글 생성 이벤트 수신완료: postId={}", postId);
 
-		List<User> followers = followRepository.findByFollowingWithFollower(evnet.author()).stream()
-				.map(Follow::getFollower)
-				.toList();
+		long followerCount = followRepository.countFollowers(authorId);
+		if (followerCount >= feedProperties.inbox().pullThreshold()) {
+			feedInboxRepository.markPullAuthor(authorId);
+			log.info("팔로워가 많아 조회 시점에 병합합니다: authorId={}, followerCount={}", authorId, followerCount);
+			return;
+		}
+		feedInboxRepository.unmarkPullAuthor(authorId);
 
-		if (followers.isEmpty()) {
-			log.debug("팔로워가 없어 이벤트를 종료합니다: authorId={}", evnet.author().getId());
+		if (followerCount == 0) {
+			log.debug("팔로워가 없어 이벤트를 종료합니다: authorId={}", authorId);
 			return;
 		}
 
-		int size = followers.size();
-		log.debug("{}명에게 피드를 배달합니다: postId={}", size, evnet.post().getId());
+		List<Long> followerIds = followRepository.findFollowerIds(authorId);
+		log.debug("{}명에게 피드를 배달합니다: postId={}", followerIds.size(), postId);
+
+		Instant createdAt = Optional.ofNullable(evnet.post().getCreatedAt()).orElseGet(Instant::now);
+		feedInboxRepository.push(followerIds, postId, createdAt);
+		log.info("{}명에게 피드가 배달 되었습니다: postId={}", followerIds.size(), postId);
+	}
 
-		List<Feed> newFeeds = followers.stream()
-				.map(follower ->
-						Feed.builder()
-						.user(follower)
-						.post(evnet.post())
-						.build()
-				)
-				.toList();
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handlePostChange(PostChangeFeedEvent event) {
+		log.debug("게시글 변경 이벤트 수신완료: postId={}", event.postId());
+		feedCardCache.evict(event.postId());
+	}
 
-		feedRepository.saveAll(newFeeds);
-		log.info("{}명에게 피드가 배달 되었습니다: postId={}", size, evnet.post().getId());
+	@EventListener
+	public void handleInteractionCountChange(InteractionCountChangeEvent event) {
+		if (event.targetType() != TargetType.POST) {
+			return;
+		}
+		log.debug("상호작용 수 변경 이벤트 수신완료: size={}", event.targetIds().size());
+		feedCardCache.evictAll(event.targetIds());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleUserSignIn(UserSignInEvent event) {
+		log.debug("로그인 이벤트 수신완료, 피드를 미리 생성합니다: userId={}", event.userId());
+		feedPrewarmer.prewarm(event.userId());
 	}
 
 }
@@ -1,6 +1,9 @@
 package dev.kyudong.back.feed.event;
 
+import dev.kyudong.back.interaction.api.dto.event.InteractionCountChangeEvent;
+import dev.kyudong.back.post.domain.dto.event.PostChangeFeedEvent;
 import dev.kyudong.back.post.domain.dto.event.PostCreateFeedEvent;
+import dev.kyudong.back.user.api.dto.event.UserSignInEvent;
 
 public interface FeedEventHandler {
 
@@ -10,4 +13,22 @@ public interface FeedEventHandler {
 	 */
 	void handlePostCreate(PostCreateFeedEvent event);
 
+	/**
+	 * 게시글이 바뀐 후 캐싱된 피드 카드를 무효화합니다.
+	 * @param event 게시글 아이디
+	 */
+	void handlePostChange(PostChangeFeedEvent event);
+
+	/**
+	 * 게시글의 상호작용 유형별 수가 반영된 후 캐싱된 피드 카드를 무효화합니다.
+	 * @param event 대상 유형과 아이디
+	 */
+	void handleInteractionCountChange(InteractionCountChangeEvent event);
+
+	/**
+	 * 로그인, 토큰 재발급 후 사용자 피드를 미리 생성합니다.
+	 * @param event 사용자 아이디
+	 */
+	void handleUserSignIn(UserSignInEvent event);
+
 }
@@ -0,0 +1,161 @@
+package dev.kyudong.back.feed.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "feed")
+public record FeedProperties(
+		Inbox inbox,
+		CandidatePool candidatePool,
+		Generation generation,
+		Seen seen,
+		CardCache cardCache,
+		Diversity diversity,
+		Ranking ranking,
+		Deadline deadline,
+		Prewarm prewarm,
+		Guest guest,
+		OldPosts oldPosts
+) {
+	/**
+	 * 팔로우 피드 인박스 설정
+	 * @param capacity		사용자별 인박스에 유지할 최대 게시글 수
+	 * @param pullThreshold	해당 팔로워 수 이상인 작성자는 fan-out 하지 않고 조회 시점에 병합합니다
+	 * @param ttl			인박스 만료 시간
+	 */
+	public record Inbox(
+			int capacity,
+			long pullThreshold,
+			Duration ttl
+	) {}
+
+	/**
+	 * 공용 후보 게시글 풀 설정
+	 * @param recentSize		최신 게시글 후보 수
+	 * @param popularSize		인기 게시글 후보 수
+	 * @param refreshInterval	후보 풀 갱신 주기
+	 */
+	public record CandidatePool(
+			int recentSize,
+			int popularSize,
+			Duration refreshInterval
+	) {}
+
+	/**
+	 * 피드 생성 설정
+	 * @param markerTtl	노드 간 중복 생성을 막는 생성 중 마커의 만료 시간
+	 * @param maxWait	피드가 없을 때 진행 중인 생성을 기다리는 최대 시간, 넘기면 미리보기를 응답합니다
+	 * @param snapshotGrace	피드가 다시 생성된 뒤에도 이전 스냅샷을 읽는 커서를 위해 스냅샷을 유지하는 시간
+	 * @param userSoftTtl	사용자 피드를 다시 생성하기 전까지 신선하다고 보는 시간
+	 * @param guestSoftTtl	게스트 피드를 다시 생성하기 전까지 신선하다고 보는 시간
+	 * @param hardTtl		최신 스냅샷 유지 시간, 지나면 피드가 없는 것으로 보고 미리보기를 응답합니다
+	 */
+	public record Generation(
+			Duration markerTtl,
+			Duration maxWait,
+			Duration snapshotGrace,
+			Duration userSoftTtl,
+			Duration guestSoftTtl,
+			Duration hardTtl
+	) {}
+
+	/**
+	 * 이미 본 게시글 필터 설정, 하루 단위 블룸 필터를 기간만큼 유지합니다
+	 * @param windowDays			유지할 일 수
+	 * @param dailyInsertions		하루 필터의 예상 삽입 수
+	 * @param falsePositiveRate		하루 필터의 목표 오탐률
+	 * @param bufferCapacity		반영 전 버퍼에 쌓을 수 있는 최대 기록 수, 넘으면 버립니다
+	 * @param flushInterval			버퍼를 Redis에 반영하는 주기
+	 */
+	public record Seen(
+			int windowDays,
+			int dailyInsertions,
+			double falsePositiveRate,
+			int bufferCapacity,
+			Duration flushInterval
+	) {}
+
+	/**
+	 * 피드 카드 캐시 설정
+	 * @param localMaxSize	노드 내부 캐시의 최대 크기
+	 * @param localTtl		노드 내부 캐시 만료 시간
+	 * @param remoteTtl		Redis 캐시 만료 시간
+	 */
+	public record CardCache(
+			DataSize localMaxSize,
+			Duration localTtl,
+			Duration remoteTtl
+	) {}
+
+	/**
+	 * 피드 생성 시 작성자 다양성 설정
+	 * @param maxPerAuthor	구간 내 작성자별 최대 게시글 수
+	 * @param window		제한을 적용하는 연속 위치 수
+	 */
+	public record Diversity(
+			int maxPerAuthor,
+			int window
+	) {}
+
+	/**
+	 * 피드 순위 계산기 설정
+	 * @param defaultRanker		기본 순위 계산기 이름
+	 * @param experimentRanker	일부 사용자에게 적용할 실험용 순위 계산기 이름, 비어 있으면 사용하지 않습니다
+	 * @param experimentPercent	실험용 순위 계산기를 적용할 사용자 비율(0~100)
+	 */
+	public record Ranking(
+			String defaultRanker,
+			String experimentRanker,
+			int experimentPercent
+	) {}
+
+	/**
+	 * 피드 생성 제한 시간 설정, 제한 시간이 지난 후보 소스는 제외하고 나머지로 피드를 생성합니다
+	 * @param sourceTimeout	후보 소스별 제한 시간
+	 * @param budget		생성 시작부터 모든 후보 소스를 기다릴 수 있는 전체 시간
+	 */
+	public record Deadline(
+			Duration sourceTimeout,
+			Duration budget
+	) {}
+
+	/**
+	 * 피드 미리 생성 설정
+	 * @param threads		미리 생성에 사용할 스레드 수
+	 * @param queueCapacity	대기할 수 있는 최대 작업 수, 넘으면 버립니다
+	 * @param refreshAhead	soft TTL이 이 시간보다 적게 남은 피드는 미리 다시 생성합니다
+	 */
+	public record Prewarm(
+			int threads,
+			int queueCapacity,
+			Duration refreshAhead
+	) {}
+
+	/**
+	 * 게스트 피드 설정, 게스트는 아이디 해시로 공용 피드 중 하나를 읽습니다
+	 * @param variants			미리 생성해 두는 공용 게스트 피드 수
+	 * @param refreshInterval	공용 게스트 피드의 신선도를 확인하는 주기
+	 */
+	public record Guest(
+			int variants,
+			Duration refreshInterval
+	) {}
+
+	/**
+	 * 오래된 게시글 표본 설정
+	 * @param pools				표본 풀 수, 피드 생성마다 다음 풀을 사용합니다
+	 * @param poolSize			풀마다 유지할 게시글 수
+	 * @param chunkSize			한 번에 읽을 게시글 수
+	 * @param minAge			오래된 게시글로 보는 최소 경과 시간
+	 * @param refreshInterval	표본을 다시 추출하는 주기
+	 */
+	public record OldPosts(
+			int pools,
+			int poolSize,
+			int chunkSize,
+			Duration minAge,
+			Duration refreshInterval
+	) {}
+}
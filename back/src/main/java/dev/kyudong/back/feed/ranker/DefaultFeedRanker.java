@@ -0,0 +1,30 @@
+package dev.kyudong.back.feed.ranker;
+
+import dev.kyudong.back.post.domain.entity.Post;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 인기 점수에 팔로우 가중치를 곱하는 기본 순위 계산기입니다
+ */
+@Component
+public class DefaultFeedRanker implements FeedRanker {
+
+	public static final String NAME = "default";
+
+	private static final double FOLLOWING_WEIGHT = 5.0;
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public void score(FeedFeatures features, double[] scores) {
+		for (int i = 0; i < features.size(); i++) {
+			double hotScore = Post.calculateHotScore(
+					features.viewCount(i), features.commentCount(i), features.score(i), features.ageHours(i));
+			scores[i] = features.following(i) ? hotScore * FOLLOWING_WEIGHT : hotScore;
+		}
+	}
+
+}
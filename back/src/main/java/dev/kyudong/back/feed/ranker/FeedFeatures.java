@@ -0,0 +1,86 @@
+package dev.kyudong.back.feed.ranker;
+
+import dev.kyudong.back.feed.api.dto.FeedCandidate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 순위 계산에 사용하는 후보별 특성을 열 단위 원시 타입 배열로 보관합니다.
+ * 순위 계산기는 같은 인덱스로 각 배열을 읽습니다
+ */
+public final class FeedFeatures {
+
+	private final int size;
+	private final long[] viewCounts;
+	private final long[] commentCounts;
+	private final double[] scores;
+	private final long[] ageHours;
+	private final boolean[] following;
+	private final double[] authorAffinities;
+
+	private FeedFeatures(int size) {
+		this.size = size;
+		this.viewCounts = new long[size];
+		this.commentCounts = new long[size];
+		this.scores = new double[size];
+		this.ageHours = new long[size];
+		this.following = new boolean[size];
+		this.authorAffinities = new double[size];
+	}
+
+	/**
+	 * 후보에서 특성을 추출합니다
+	 * @param candidates		후보 게시글
+	 * @param followingIds		팔로우 중인 작성자 아이디
+	 * @param authorAffinities	작성자별 친밀도, 없는 작성자는 0입니다
+	 * @param now				게시글 경과 시간의 기준 시각
+	 * @return 후보와 같은 순서의 특성
+	 */
+	public static FeedFeatures extract(List<FeedCandidate> candidates, Set<Long> followingIds,
+									   Map<Long, Double> authorAffinities, Instant now) {
+		FeedFeatures features = new FeedFeatures(candidates.size());
+		long nowMillis = now.toEpochMilli();
+		for (int i = 0; i < features.size; i++) {
+			FeedCandidate candidate = candidates.get(i);
+			features.viewCounts[i] = candidate.viewCount();
+			features.commentCounts[i] = candidate.commentCount();
+			features.scores[i] = candidate.score();
+			features.ageHours[i] = (nowMillis - candidate.createdAt().toEpochMilli()) / 3_600_000L;
+			features.following[i] = followingIds.contains(candidate.authorId());
+			features.authorAffinities[i] = authorAffinities.getOrDefault(candidate.authorId(), 0.0D);
+		}
+		return features;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public long viewCount(int index) {
+		return viewCounts[index];
+	}
+
+	public long commentCount(int index) {
+		return commentCounts[index];
+	}
+
+	public double score(int index) {
+		return scores[index];
+	}
+
+	public long ageHours(int index) {
+		return ageHours[index];
+	}
+
+	public boolean following(int index) {
+		return following[index];
+	}
+
+	public double authorAffinity(int index) {
+		return authorAffinities[index];
+	}
+
+}
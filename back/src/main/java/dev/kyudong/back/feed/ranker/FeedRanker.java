@@ -0,0 +1,27 @@
+package dev.kyudong.back.feed.ranker;
+
+/**
+ * 피드 후보의 순위 점수를 계산합니다.
+ * 구현체는 {@link #name()}으로 구분되며 {@link FeedRankerSelector}가 요청마다 사용할 구현체를 고릅니다
+ */
+public interface FeedRanker {
+
+	String name();
+
+	/**
+	 * 후보 전체의 점수를 한 번에 계산합니다, 계산 중에는 객체를 생성하지 않아야 합니다
+	 * @param features	후보별 특성
+	 * @param scores	계산된 점수를 담을 배열, 길이는 {@link FeedFeatures#size()} 이상입니다
+	 */
+	void score(FeedFeatures features, double[] scores);
+
+	/**
+	 * 작성자별 친밀도를 점수에 반영하는지 여부입니다.
+	 * false라면 피드 생성 시 친밀도 집계 쿼리를 실행하지 않고 모든 작성자의 친밀도를 0으로 둡니다
+	 * @return 친밀도를 사용한다면 true
+	 */
+	default boolean usesAuthorAffinity() {
+		return false;
+	}
+
+}
@@ -0,0 +1,54 @@
+package dev.kyudong.back.feed.ranker;
+
+import com.google.common.hash.Hashing;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 요청마다 사용할 순위 계산기를 고릅니다.
+ * 실험용 계산기가 설정되어 있다면 사용자 아이디 해시로 일정 비율의 사용자에게만 적용합니다
+ */
+@Slf4j
+@Component
+public class FeedRankerSelector {
+
+	private final Map<String, FeedRanker> rankers;
+	private final FeedProperties.Ranking rankingProperties;
+
+	public FeedRankerSelector(List<FeedRanker> rankers, FeedProperties feedProperties) {
+		this.rankers = rankers.stream().collect(Collectors.toMap(FeedRanker::name, Function.identity()));
+		this.rankingProperties = feedProperties.ranking();
+		if (!this.rankers.containsKey(rankingProperties.defaultRanker())) {
+			throw new IllegalStateException("기본 피드 순위 계산기를 찾을 수 없습니다: " + rankingProperties.defaultRanker());
+		}
+	}
+
+	/**
+	 * @param userId	사용자 아이디, 게스트라면 null
+	 * @return 순위 계산기
+	 */
+	public FeedRanker select(Long userId) {
+		String experimentRanker = rankingProperties.experimentRanker();
+		if (userId != null && StringUtils.hasText(experimentRanker) && isExperimentBucket(userId)) {
+			FeedRanker ranker = rankers.get(experimentRanker);
+			if (ranker != null) {
+				return ranker;
+			}
+			log.warn("실험용 피드 순위 계산기를 찾을 수 없습니다: {}", experimentRanker);
+		}
+		return rankers.get(rankingProperties.defaultRanker());
+	}
+
+	private boolean isExperimentBucket(Long userId) {
+		int bucket = Math.floorMod(Hashing.murmur3_32_fixed().hashLong(userId).asInt(), 100);
+		return bucket < rankingProperties.experimentPercent();
+	}
+
+}
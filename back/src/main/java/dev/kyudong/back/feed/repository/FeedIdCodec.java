@@ -0,0 +1,113 @@
+package dev.kyudong.back.feed.repository;
+
+import java.util.Arrays;
+
+/**
+ * 피드 스냅샷의 게시글 아이디 목록을 하나의 바이너리 값으로 압축합니다.
+ * <p>
+ * {@code [flags:1][count:varint][id 차이값:zigzag varint...]} 형태이며,
+ * 아이디는 직전 아이디와의 차이를 zigzag 인코딩해 대부분 2~3바이트로 저장됩니다.
+ * 첫 바이트는 형식을 바꿀 때를 위해 남겨 둔 플래그로, 현재는 항상 0입니다.
+ */
+public final class FeedIdCodec {
+
+	private static final int MAX_VARINT_BYTES = 10;
+
+	private FeedIdCodec() {
+	}
+
+	/**
+	 * 게시글 아이디를 인코딩합니다
+	 * @param postIds	순위순 게시글 아이디
+	 * @return 인코딩된 값
+	 */
+	public static byte[] encode(long[] postIds) {
+		byte[] buffer = new byte[1 + MAX_VARINT_BYTES + postIds.length * MAX_VARINT_BYTES];
+		buffer[0] = 0;
+		int position = writeVarint(buffer, 1, postIds.length);
+
+		long previous = 0L;
+		for (long postId : postIds) {
+			position = writeVarint(buffer, position, zigzag(postId - previous));
+			previous = postId;
+		}
+		return Arrays.copyOf(buffer, position);
+	}
+
+	/**
+	 * 저장된 게시글 수를 반환합니다
+	 * @param encoded	인코딩된 값
+	 * @return 게시글 수
+	 */
+	public static int size(byte[] encoded) {
+		return (int) new Reader(encoded, 1).readVarint();
+	}
+
+	/**
+	 * 게시글 아이디의 일부를 디코딩합니다
+	 * @param encoded	인코딩된 값
+	 * @param offset	시작 위치
+	 * @param count		최대 개수
+	 * @return 게시글 아이디, 범위를 벗어난 만큼 짧아질 수 있습니다
+	 */
+	public static long[] decode(byte[] encoded, int offset, int count) {
+		Reader reader = new Reader(encoded, 1);
+		int size = (int) reader.readVarint();
+		int from = Math.min(Math.max(offset, 0), size);
+		int to = (int) Math.min((long) from + Math.max(count, 0), size);
+
+		long[] postIds = new long[to - from];
+		long previous = 0L;
+		for (int i = 0; i < to; i++) {
+			previous += unzigzag(reader.readVarint());
+			if (i >= from) {
+				postIds[i - from] = previous;
+			}
+		}
+		return postIds;
+	}
+
+	private static int writeVarint(byte[] buffer, int position, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte) value;
+		return position;
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static final class Reader {
+
+		private final byte[] bytes;
+		private int position;
+
+		private Reader(byte[] bytes, int position) {
+			this.bytes = bytes;
+			this.position = position;
+		}
+
+		private long readVarint() {
+			long value = 0L;
+			int shift = 0;
+			byte current;
+			do {
+				if (shift >= 64) {
+					throw new IllegalArgumentException("잘못된 varint 값입니다");
+				}
+				current = bytes[position++];
+				value |= (long) (current & 0x7F) << shift;
+				shift += 7;
+			} while ((current & 0x80) != 0);
+			return value;
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package dev.kyudong.back.feed.repository;
+
+import dev.kyudong.back.feed.properties.FeedProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.*;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 팔로우 피드 인박스를 관리합니다.
+ * <p>
+ * 사용자별 인박스는 (postId, createdAt) 형태의 Redis Sorted Set으로 저장되며, 최신 게시글 기준으로 용량이 제한됩니다.
+ * 팔로워가 많은 작성자는 인박스에 배달하지 않고 pull 작성자로 등록되어 피드 생성 시점에 병합됩니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class FeedInboxRepository {
+
+	private static final String INBOX_KEY_PREFIX = "feed:inbox:user:";
+	private static final String PULL_AUTHORS_KEY = "feed:pull_authors";
+	private static final int FAN_OUT_CHUNK_SIZE = 500;
+
+	private final RedissonClient redissonClient;
+	private final FeedProperties feedProperties;
+
+	/**
+	 * 팔로워들의 인박스에 게시글을 배달합니다, 팔로워를 나누어 파이프라인으로 전송합니다
+	 * @param followerIds	배달받을 팔로워 아이디 목록
+	 * @param postId		게시글 아이디
+	 * @param createdAt		게시글 생성 시간
+	 */
+	public void push(List<Long> followerIds, Long postId, Instant createdAt) {
+		FeedProperties.Inbox inbox = feedProperties.inbox();
+		double score = createdAt.toEpochMilli();
+
+		for (int from = 0; from < followerIds.size(); from += FAN_OUT_CHUNK_SIZE) {
+			List<Long> chunk = followerIds.subList(from, Math.min(from + FAN_OUT_CHUNK_SIZE, followerIds.size()));
+
+			RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+			for (Long followerId : chunk) {
+				RScoredSortedSetAsync<Long> inboxSet = batch.getScoredSortedSet(INBOX_KEY_PREFIX + followerId, LongCodec.INSTANCE);
+				inboxSet.addAsync(score, postId);
+				inboxSet.removeRangeByRankAsync(0, -(inbox.capacity() + 1));
+				inboxSet.expireAsync(inbox.ttl());
+			}
+			batch.execute();
+		}
+	}
+
+	/**
+	 * 사용자 인박스에서 최신 게시글 아이디를 조회합니다
+	 * @param userId	사용자 아이디
+	 * @param size		조회할 개수
+	 * @return 최신순 게시글 아이디
+	 */
+	public List<Long> findPostIds(Long userId, int size) {
+		RScoredSortedSet<Long> inboxSet = redissonClient.getScoredSortedSet(INBOX_KEY_PREFIX + userId, LongCodec.INSTANCE);
+		return new ArrayList<>(inboxSet.valueRangeReversed(0, size - 1));
+	}
+
+	public void markPullAuthor(Long authorId) {
+		RSet<Long> pullAuthors = redissonClient.getSet(PULL_AUTHORS_KEY, LongCodec.INSTANCE);
+		pullAuthors.add(authorId);
+	}
+
+	public void unmarkPullAuthor(Long authorId) {
+		RSet<Long> pullAuthors = redissonClient.getSet(PULL_AUTHORS_KEY, LongCodec.INSTANCE);
+		pullAuthors.remove(authorId);
+	}
+
+	/**
+	 * 주어진 작성자 중 pull 방식으로 전환된 작성자를 찾습니다.
+	 * 전체 pull 작성자 집합을 읽지 않고 주어진 작성자의 포함 여부만 확인하므로 비용은 팔로잉 수에 비례합니다
+	 * @param authorIds	팔로잉 중인 작성자 아이디 목록
+	 * @return pull 방식 작성자 아이디
+	 */
+	public Set<Long> findPullAuthors(Collection<Long> authorIds) {
+		if (authorIds.isEmpty()) {
+			return Collections.emptySet();
+		}
+
+		RSet<Long> pullAuthors = redissonClient.getSet(PULL_AUTHORS_KEY, LongCodec.INSTANCE);
+		return new HashSet<>(pullAuthors.containsEach(authorIds));
+	}
+
+}
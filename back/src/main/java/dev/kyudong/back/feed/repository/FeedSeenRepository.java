@@ -0,0 +1,238 @@
+package dev.kyudong.back.feed.repository;
+
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Longs;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.*;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자가 이미 본 게시글을 하루 단위로 나뉜 Redis 비트맵 블룸 필터로 관리합니다.
+ * <p>
+ * 필터는 {@code feed:seen:user:{id}:{epochDay}} 형태로 하루마다 새로 만들어지고 기간이 지나면 만료되므로,
+ * 오래 사용한 사용자도 오탐률이 올라가지 않고 사용자당 메모리는 (기간 × 하루 필터 크기)로 제한됩니다.
+ * 기록은 메모리 버퍼에 모았다가 주기적으로 한 번의 배치로 반영하고,
+ * 확인은 기간 내 비트맵을 한 번의 배치로 가져와 메모리에서 판별합니다.
+ */
+@Slf4j
+@Repository
+public class FeedSeenRepository {
+
+	private static final String USER_KEY_PREFIX = "feed:seen:user:";
+	private static final String GUEST_KEY_PREFIX = "feed:seen:guest:";
+
+	private final RedissonClient redissonClient;
+	private final FeedProperties.Seen seenProperties;
+	private final long bitSize;
+	private final int hashCount;
+
+	private final Queue<SeenEntry> buffer = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger bufferSize = new AtomicInteger();
+
+	public FeedSeenRepository(RedissonClient redissonClient, FeedProperties feedProperties) {
+		this.redissonClient = redissonClient;
+		this.seenProperties = feedProperties.seen();
+		this.bitSize = optimalBitSize(seenProperties.dailyInsertions(), seenProperties.falsePositiveRate());
+		this.hashCount = optimalHashCount(seenProperties.dailyInsertions(), bitSize);
+	}
+
+	public static String userKey(Long userId) {
+		return USER_KEY_PREFIX + userId;
+	}
+
+	public static String guestKey(String guestId) {
+		return GUEST_KEY_PREFIX + guestId;
+	}
+
+	/**
+	 * 게시글을 본 것으로 버퍼에 기록합니다, 실제 반영은 {@link #flush()}에서 이루어집니다
+	 * @param seenKey	{@link #userKey(Long)} 또는 {@link #guestKey(String)}
+	 * @param postId	게시글 아이디
+	 */
+	public void markSeen(String seenKey, Long postId) {
+		if (bufferSize.incrementAndGet() > seenProperties.bufferCapacity()) {
+			bufferSize.decrementAndGet();
+			log.warn("본 게시글 버퍼가 가득 차 기록을 버립니다: seenKey={}, postId={}", seenKey, postId);
+			return;
+		}
+		buffer.add(new SeenEntry(seenKey, postId, today()));
+	}
+
+	/**
+	 * 버퍼에 쌓인 기록을 하루 필터별 SETBIT과 만료 설정으로 묶어 한 번에 전송합니다
+	 */
+	public void flush() {
+		Map<String, Set<Long>> pending = new HashMap<>();
+		SeenEntry entry;
+		while ((entry = buffer.poll()) != null) {
+			bufferSize.decrementAndGet();
+			pending.computeIfAbsent(dayKey(entry.seenKey(), entry.epochDay()), k -> new HashSet<>()).add(entry.postId());
+		}
+
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		Duration ttl = Duration.ofDays(seenProperties.windowDays() + 1L);
+		RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+		pending.forEach((dayKey, postIds) -> {
+			RBitSetAsync bitSet = batch.getBitSet(dayKey);
+			for (Long postId : postIds) {
+				for (long index : bitIndexes(postId)) {
+					bitSet.setAsync(index);
+				}
+			}
+			bitSet.expireAsync(ttl);
+		});
+		batch.execute();
+		log.debug("본 게시글 기록을 반영했습니다: filters={}", pending.size());
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	/**
+	 * 주어진 게시글 중 기간 내에 이미 본 것으로 판단되는 게시글을 찾습니다
+	 * @param seenKey	{@link #userKey(Long)} 또는 {@link #guestKey(String)}
+	 * @param postIds	확인할 게시글 아이디
+	 * @return 이미 본 게시글 아이디, 블룸 필터 특성상 오탐이 있을 수 있습니다
+	 */
+	public Set<Long> findSeen(String seenKey, Collection<Long> postIds) {
+		Set<Long> seen = new HashSet<>();
+		if (postIds.isEmpty()) {
+			return seen;
+		}
+
+		SeenFilter filter = findFilter(seenKey);
+		for (Long postId : postIds) {
+			if (filter.mightContain(postId)) {
+				seen.add(postId);
+			}
+		}
+		return seen;
+	}
+
+	/**
+	 * 기간 내 비트맵을 한 번의 배치로 가져와 메모리에서 판별하는 필터를 만듭니다.
+	 * 확인할 게시글 수를 미리 알 수 없을 때 비트맵을 한 번만 읽기 위해 사용합니다
+	 * @param seenKey	{@link #userKey(Long)} 또는 {@link #guestKey(String)}
+	 * @return 본 게시글 필터
+	 */
+	public SeenFilter findFilter(String seenKey) {
+		return new SeenFilter(findBitmaps(seenKey));
+	}
+
+	/**
+	 * 조회 시점의 본 게시글 비트맵으로 게시글을 판별합니다
+	 */
+	public final class SeenFilter {
+
+		private final List<byte[]> bitmaps;
+
+		private SeenFilter(List<byte[]> bitmaps) {
+			this.bitmaps = bitmaps;
+		}
+
+		/**
+		 * @param postId	게시글 아이디
+		 * @return 기간 내에 본 것으로 판단되면 true, 블룸 필터 특성상 오탐이 있을 수 있습니다
+		 */
+		public boolean mightContain(long postId) {
+			if (bitmaps.isEmpty()) {
+				return false;
+			}
+			long[] indexes = bitIndexes(postId);
+			for (byte[] bitmap : bitmaps) {
+				if (FeedSeenRepository.mightContain(bitmap, indexes)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+	private List<byte[]> findBitmaps(String seenKey) {
+		long today = today();
+		RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+		for (int i = 0; i < seenProperties.windowDays(); i++) {
+			batch.<byte[]>getBucket(dayKey(seenKey, today - i), ByteArrayCodec.INSTANCE).getAsync();
+		}
+
+		List<byte[]> bitmaps = new ArrayList<>();
+		for (Object response : batch.execute().getResponses()) {
+			if (response instanceof byte[] bitmap) {
+				bitmaps.add(bitmap);
+			}
+		}
+		return bitmaps;
+	}
+
+	private static String dayKey(String seenKey, long epochDay) {
+		return seenKey + ":" + epochDay;
+	}
+
+	private static long today() {
+		return LocalDate.now(ZoneOffset.UTC).toEpochDay();
+	}
+
+	private static boolean mightContain(byte[] bitmap, long[] indexes) {
+		for (long index : indexes) {
+			if (!isSet(bitmap, index)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Redis 비트맵은 바이트 안에서 최상위 비트가 0번 오프셋입니다
+	 */
+	private static boolean isSet(byte[] bitmap, long index) {
+		int byteIndex = (int) (index >>> 3);
+		if (byteIndex >= bitmap.length) {
+			return false;
+		}
+		return (bitmap[byteIndex] & (0x80 >>> (index & 7))) != 0;
+	}
+
+	/**
+	 * murmur3 128비트 해시를 두 개의 64비트 해시로 나누어 이중 해싱으로 비트 위치를 구합니다
+	 */
+	private long[] bitIndexes(long postId) {
+		byte[] hash = Hashing.murmur3_128().hashLong(postId).asBytes();
+		long hash1 = Longs.fromBytes(hash[7], hash[6], hash[5], hash[4], hash[3], hash[2], hash[1], hash[0]);
+		long hash2 = Longs.fromBytes(hash[15], hash[14], hash[13], hash[12], hash[11], hash[10], hash[9], hash[8]);
+
+		long[] indexes = new long[hashCount];
+		long combined = hash1;
+		for (int i = 0; i < hashCount; i++) {
+			indexes[i] = (combined & Long.MAX_VALUE) % bitSize;
+			combined += hash2;
+		}
+		return indexes;
+	}
+
+	private static long optimalBitSize(long insertions, double falsePositiveRate) {
+		return (long) (-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+	}
+
+	private static int optimalHashCount(long insertions, long bitSize) {
+		return Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+	}
+
+	private record SeenEntry(String seenKey, Long postId, long epochDay) {}
+
+}
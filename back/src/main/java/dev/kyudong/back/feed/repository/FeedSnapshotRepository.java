@@ -0,0 +1,140 @@
+package dev.kyudong.back.feed.repository;
+
+import dev.kyudong.back.feed.properties.FeedProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.*;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생성된 피드 목록을 버전별 스냅샷으로 관리합니다.
+ * <p>
+ * 피드는 {@code {feedKey}:ids:{snapshotId}}에 {@link FeedIdCodec}으로 압축한 하나의 바이너리 값으로 저장되고,
+ * {@code {feedKey}:head}가 최신 스냅샷을 가리킵니다.
+ * 피드가 다시 생성되어도 기존 스냅샷은 바로 지워지지 않으므로, 이전 스냅샷을 읽던 커서는 같은 순서로 끝까지 읽을 수 있습니다.
+ * <p>
+ * 최신 스냅샷은 hard TTL 동안 유지되고, {@code {feedKey}:fresh}가 soft TTL 동안 스냅샷이 신선한지를 나타냅니다.
+ * soft TTL이 지나면 기존 스냅샷을 응답하면서 다시 생성하고, 새 스냅샷이 저장되는 순간 포인터가 원자적으로 교체됩니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class FeedSnapshotRepository {
+
+	private static final String CURRENT_SUFFIX = ":head";
+	private static final String FRESH_SUFFIX = ":fresh";
+	private static final String SNAPSHOT_INFIX = ":ids:";
+
+	private final RedissonClient redissonClient;
+	private final FeedProperties feedProperties;
+
+	/**
+	 * 최신 스냅샷 정보
+	 * @param snapshotId	스냅샷 아이디
+	 * @param freshTtl		soft TTL의 남은 시간, 지났다면 0
+	 */
+	public record CurrentSnapshot(String snapshotId, Duration freshTtl) {
+
+		/**
+		 * @param threshold	기준 시간
+		 * @return soft TTL이 기준 시간 안에 끝난다면 true
+		 */
+		public boolean expiresWithin(Duration threshold) {
+			return freshTtl.compareTo(threshold) < 0;
+		}
+	}
+
+	/**
+	 * 새 스냅샷을 저장하고 최신 스냅샷으로 지정합니다, 하나의 원자적 배치로 전송합니다
+	 * @param feedKey	피드 키
+	 * @param postIds	순위순 게시글 아이디
+	 * @param softTtl	다시 생성하기 전까지 신선하다고 보는 시간
+	 */
+	public void save(String feedKey, long[] postIds, Duration softTtl) {
+		String snapshotId = Long.toString(System.currentTimeMillis(), 36);
+		Duration ttl = feedProperties.generation().hardTtl();
+		Duration grace = feedProperties.generation().snapshotGrace();
+
+		RBatch batch = redissonClient.createBatch(BatchOptions.defaults().executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+		batch.getBucket(snapshotKey(feedKey, snapshotId), ByteArrayCodec.INSTANCE)
+				.setAsync(FeedIdCodec.encode(postIds), ttl.plus(grace));
+		RFuture<String> previous = batch.<String>getBucket(feedKey + CURRENT_SUFFIX, StringCodec.INSTANCE)
+				.getAndSetAsync(snapshotId, ttl.toMillis(), TimeUnit.MILLISECONDS);
+		batch.getBucket(feedKey + FRESH_SUFFIX, StringCodec.INSTANCE).setAsync(snapshotId, softTtl);
+		batch.execute();
+
+		// 교체된 스냅샷은 읽는 중인 커서를 위해 유예 시간만 남깁니다
+		String previousSnapshotId = previous.toCompletableFuture().join();
+		if (previousSnapshotId != null && !previousSnapshotId.equals(snapshotId)) {
+			redissonClient.getBucket(snapshotKey(feedKey, previousSnapshotId), ByteArrayCodec.INSTANCE).expire(grace);
+		}
+	}
+
+	/**
+	 * 최신 스냅샷과 신선도를 한 번에 조회합니다
+	 * @param feedKey	피드 키
+	 * @return 최신 스냅샷, 한 번도 생성되지 않았거나 hard TTL이 지났다면 빈 값
+	 */
+	public Optional<CurrentSnapshot> findCurrent(String feedKey) {
+		RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+		RFuture<String> current = batch.<String>getBucket(feedKey + CURRENT_SUFFIX, StringCodec.INSTANCE).getAsync();
+		RFuture<Long> freshTtl = batch.getBucket(feedKey + FRESH_SUFFIX, StringCodec.INSTANCE).remainTimeToLiveAsync();
+		batch.execute();
+
+		String snapshotId = current.toCompletableFuture().join();
+		if (snapshotId == null) {
+			return Optional.empty();
+		}
+		// 키가 없으면 -2를 반환합니다
+		long freshTtlMillis = Math.max(freshTtl.toCompletableFuture().join(), 0L);
+		return Optional.of(new CurrentSnapshot(snapshotId, Duration.ofMillis(freshTtlMillis)));
+	}
+
+	public boolean exists(String feedKey) {
+		return redissonClient.getBucket(feedKey + CURRENT_SUFFIX, StringCodec.INSTANCE).isExists();
+	}
+
+	/**
+	 * 최신 스냅샷 아이디를 조회합니다
+	 * @param feedKey	피드 키
+	 * @return 스냅샷 아이디
+	 */
+	public Optional<String> findCurrentSnapshotId(String feedKey) {
+		RBucket<String> current = redissonClient.getBucket(feedKey + CURRENT_SUFFIX, StringCodec.INSTANCE);
+		return Optional.ofNullable(current.get());
+	}
+
+	/**
+	 * 스냅샷의 일부를 순서대로 조회하고, 읽는 중인 스냅샷의 만료를 유예 시간 이상으로 연장합니다.
+	 * 값 전체를 한 번에 가져와 필요한 구간만 원시 타입 배열로 디코딩합니다
+	 * @param feedKey		피드 키
+	 * @param snapshotId	스냅샷 아이디
+	 * @param offset		시작 위치
+	 * @param count			조회할 개수
+	 * @return 게시글 아이디, 스냅샷이 만료되었다면 빈 값
+	 */
+	public Optional<long[]> findRange(String feedKey, String snapshotId, int offset, int count) {
+		RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+		RBucketAsync<byte[]> snapshot = batch.getBucket(snapshotKey(feedKey, snapshotId), ByteArrayCodec.INSTANCE);
+		RFuture<byte[]> encoded = snapshot.getAsync();
+		snapshot.expireIfGreaterAsync(feedProperties.generation().snapshotGrace());
+		batch.execute();
+
+		byte[] bytes = encoded.toCompletableFuture().join();
+		if (bytes == null) {
+			return Optional.empty();
+		}
+		return Optional.of(FeedIdCodec.decode(bytes, offset, count));
+	}
+
+	private static String snapshotKey(String feedKey, String snapshotId) {
+		return feedKey + SNAPSHOT_INFIX + snapshotId;
+	}
+
+}
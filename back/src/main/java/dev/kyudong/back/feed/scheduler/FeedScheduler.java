@@ -0,0 +1,48 @@
+package dev.kyudong.back.feed.scheduler;
+
+import dev.kyudong.back.feed.repository.FeedSeenRepository;
+import dev.kyudong.back.feed.service.FeedCandidatePool;
+import dev.kyudong.back.feed.service.FeedOldPostSampler;
+import dev.kyudong.back.feed.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedScheduler {
+
+	private final FeedCandidatePool feedCandidatePool;
+	private final FeedSeenRepository feedSeenRepository;
+	private final FeedService feedService;
+	private final FeedOldPostSampler feedOldPostSampler;
+
+	@Scheduled(fixedDelayString = "${feed.candidate-pool.refresh-interval}")
+	public void refreshCandidatePool() {
+		log.debug("피드 후보 풀 갱신을 확인합니다");
+
+		feedCandidatePool.refresh();
+	}
+
+	@Scheduled(fixedDelayString = "${feed.old-posts.refresh-interval}", initialDelayString = "1m")
+	public void refreshOldPosts() {
+		log.debug("오래된 게시글 표본 갱신을 확인합니다");
+
+		feedOldPostSampler.refresh();
+	}
+
+	@Scheduled(fixedDelayString = "${feed.seen.flush-interval}")
+	public void flushSeenPosts() {
+		feedSeenRepository.flush();
+	}
+
+	@Scheduled(fixedDelayString = "${feed.guest.refresh-interval}")
+	public void refreshGuestFeeds() {
+		log.debug("공용 게스트 피드 갱신을 확인합니다");
+
+		feedService.refreshGuestFeeds();
+	}
+
+}
@@ -0,0 +1,262 @@
+package dev.kyudong.back.feed.service;
+
+import dev.kyudong.back.feed.api.dto.FeedCandidate;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.post.application.port.out.web.PostFeedQueryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 사용자가 공유하는 최신/인기 후보 게시글 풀입니다.
+ * <p>
+ * 한 노드가 락을 잡고 주기적으로 후보를 조회해 Redis에 바이너리 스냅샷으로 올리고,
+ * 각 노드는 버전이 바뀌었을 때만 스냅샷을 내려받아 원시 타입 배열로 보관합니다.
+ * 사용자별 피드 생성은 이 풀에서 본인 게시글만 메모리에서 걸러 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedCandidatePool {
+
+	private static final String SNAPSHOT_KEY = "feed:candidate_pool";
+	private static final String VERSION_KEY = "feed:candidate_pool:version";
+	private static final String LOCK_KEY = "feed:candidate_pool:lock";
+
+	// 스냅샷이 아직 없을 때 Redis를 다시 확인하기까지 기다리는 시간
+	private static final long EMPTY_RELOAD_BACKOFF_MILLIS = 1_000L;
+
+	private final PostFeedQueryPort postFeedQueryPort;
+	private final RedissonClient redissonClient;
+	private final FeedProperties feedProperties;
+
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+	private volatile long nextEmptyReloadAt = 0L;
+
+	/**
+	 * 최신 게시글 후보를 조회합니다
+	 * @param excludeAuthorId	제외할 작성자 아이디, null이면 제외하지 않습니다
+	 * @return 최신 게시글 후보
+	 */
+	public List<FeedCandidate> findRecent(Long excludeAuthorId) {
+		return currentSnapshot().recent().toList(excludeAuthorId);
+	}
+
+	/**
+	 * 인기 게시글 후보를 조회합니다
+	 * @param excludeAuthorId	제외할 작성자 아이디, null이면 제외하지 않습니다
+	 * @return 인기 게시글 후보
+	 */
+	public List<FeedCandidate> findPopular(Long excludeAuthorId) {
+		return currentSnapshot().popular().toList(excludeAuthorId);
+	}
+
+	/**
+	 * 스냅샷이 오래되었다면 다시 만들고, 다른 노드가 만든 새 스냅샷이 있다면 내려받습니다
+	 */
+	public void refresh() {
+		RBucket<Long> versionBucket = redissonClient.getBucket(VERSION_KEY, LongCodec.INSTANCE);
+		Long version = versionBucket.get();
+
+		long now = System.currentTimeMillis();
+		long halfInterval = feedProperties.candidatePool().refreshInterval().toMillis() / 2;
+		if (version == null || now - version >= halfInterval) {
+			rebuild();
+			version = versionBucket.get();
+		}
+
+		if (version != null && version != snapshot.version()) {
+			load();
+		}
+	}
+
+	/**
+	 * 현재 스냅샷을 반환합니다.
+	 * 스냅샷이 비어 있다면 Redis에서 내려받되, 비어 있다는 결과는 잠시 기억해 요청마다 다시 조회하지 않습니다
+	 */
+	private Snapshot currentSnapshot() {
+		Snapshot current = snapshot;
+		if (current != Snapshot.EMPTY) {
+			return current;
+		}
+
+		long now = System.currentTimeMillis();
+		if (now < nextEmptyReloadAt) {
+			return current;
+		}
+		nextEmptyReloadAt = now + EMPTY_RELOAD_BACKOFF_MILLIS;
+		load();
+		return snapshot;
+	}
+
+	private void rebuild() {
+		Duration interval = feedProperties.candidatePool().refreshInterval();
+		RLock lock = redissonClient.getLock(LOCK_KEY);
+		try {
+			if (!lock.tryLock(0, interval.toMillis(), TimeUnit.MILLISECONDS)) {
+				log.debug("다른 노드가 후보 풀을 갱신 중입니다");
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		try {
+			Instant now = Instant.now();
+			List<FeedCandidate> recent = postFeedQueryPort.findRecentCandidates(
+					now.minus(48, ChronoUnit.HOURS), feedProperties.candidatePool().recentSize());
+			List<FeedCandidate> popular = postFeedQueryPort.findPopularCandidates(
+					now.minus(30, ChronoUnit.DAYS), feedProperties.candidatePool().popularSize());
+
+			Snapshot newSnapshot = new Snapshot(now.toEpochMilli(), Candidates.of(recent), Candidates.of(popular));
+			Duration ttl = interval.multipliedBy(3);
+			redissonClient.getBucket(SNAPSHOT_KEY, ByteArrayCodec.INSTANCE).set(newSnapshot.encode(), ttl);
+			redissonClient.getBucket(VERSION_KEY, LongCodec.INSTANCE).set(newSnapshot.version(), ttl);
+			snapshot = newSnapshot;
+
+			log.info("피드 후보 풀을 갱신했습니다: recent={}, popular={}", recent.size(), popular.size());
+		} catch (Exception e) {
+			log.error("피드 후보 풀 갱신 중 오류가 발생했습니다", e);
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void load() {
+		RBucket<byte[]> snapshotBucket = redissonClient.getBucket(SNAPSHOT_KEY, ByteArrayCodec.INSTANCE);
+		byte[] bytes = snapshotBucket.get();
+		if (bytes == null) {
+			return;
+		}
+
+		try {
+			snapshot = Snapshot.decode(bytes);
+			log.debug("피드 후보 풀을 내려받았습니다: version={}", snapshot.version());
+		} catch (RuntimeException e) {
+			log.warn("피드 후보 풀 스냅샷을 읽을 수 없습니다", e);
+		}
+	}
+
+	private record Snapshot(long version, Candidates recent, Candidates popular) {
+
+		static final Snapshot EMPTY = new Snapshot(0L, Candidates.EMPTY, Candidates.EMPTY);
+
+		byte[] encode() {
+			ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + recent.byteSize() + popular.byteSize());
+			buffer.putLong(version);
+			recent.writeTo(buffer);
+			popular.writeTo(buffer);
+			return buffer.array();
+		}
+
+		static Snapshot decode(byte[] bytes) {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			long version = buffer.getLong();
+			return new Snapshot(version, Candidates.readFrom(buffer), Candidates.readFrom(buffer));
+		}
+	}
+
+	/**
+	 * 후보 게시글을 열 단위 원시 타입 배열로 보관합니다
+	 */
+	private static final class Candidates {
+
+		static final Candidates EMPTY = new Candidates(0);
+
+		private static final int ENTRY_BYTES = Long.BYTES * 5 + Double.BYTES;
+
+		final long[] postIds;
+		final long[] authorIds;
+		final long[] viewCounts;
+		final long[] commentCounts;
+		final double[] scores;
+		final long[] createdAts;
+
+		private Candidates(int size) {
+			this.postIds = new long[size];
+			this.authorIds = new long[size];
+			this.viewCounts = new long[size];
+			this.commentCounts = new long[size];
+			this.scores = new double[size];
+			this.createdAts = new long[size];
+		}
+
+		static Candidates of(List<FeedCandidate> candidateList) {
+			Candidates candidates = new Candidates(candidateList.size());
+			for (int i = 0; i < candidateList.size(); i++) {
+				FeedCandidate candidate = candidateList.get(i);
+				candidates.postIds[i] = candidate.postId();
+				candidates.authorIds[i] = candidate.authorId();
+				candidates.viewCounts[i] = candidate.viewCount();
+				candidates.commentCounts[i] = candidate.commentCount();
+				candidates.scores[i] = candidate.score();
+				candidates.createdAts[i] = candidate.createdAt().toEpochMilli();
+			}
+			return candidates;
+		}
+
+		int size() {
+			return postIds.length;
+		}
+
+		int byteSize() {
+			return Integer.BYTES + size() * ENTRY_BYTES;
+		}
+
+		List<FeedCandidate> toList(Long excludeAuthorId) {
+			List<FeedCandidate> result = new ArrayList<>(size());
+			for (int i = 0; i < size(); i++) {
+				if (excludeAuthorId != null && authorIds[i] == excludeAuthorId) {
+					continue;
+				}
+				result.add(new FeedCandidate(
+						postIds[i], authorIds[i], viewCounts[i],
+						commentCounts[i], scores[i], Instant.ofEpochMilli(createdAts[i])
+				));
+			}
+			return result;
+		}
+
+		void writeTo(ByteBuffer buffer) {
+			buffer.putInt(size());
+			for (int i = 0; i < size(); i++) {
+				buffer.putLong(postIds[i]);
+				buffer.putLong(authorIds[i]);
+				buffer.putLong(viewCounts[i]);
+				buffer.putLong(commentCounts[i]);
+				buffer.putDouble(scores[i]);
+				buffer.putLong(createdAts[i]);
+			}
+		}
+
+		static Candidates readFrom(ByteBuffer buffer) {
+			Candidates candidates = new Candidates(buffer.getInt());
+			for (int i = 0; i < candidates.size(); i++) {
+				candidates.postIds[i] = buffer.getLong();
+				candidates.authorIds[i] = buffer.getLong();
+				candidates.viewCounts[i] = buffer.getLong();
+				candidates.commentCounts[i] = buffer.getLong();
+				candidates.scores[i] = buffer.getDouble();
+				candidates.createdAts[i] = buffer.getLong();
+			}
+			return candidates;
+		}
+	}
+
+}
@@ -0,0 +1,167 @@
+package dev.kyudong.back.feed.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import dev.kyudong.back.feed.api.dto.PostFeedDto;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.interaction.domain.InteractionCount;
+import dev.kyudong.back.interaction.domain.TargetType;
+import dev.kyudong.back.interaction.repository.InteractionCountRepository;
+import dev.kyudong.back.post.application.port.out.web.PostFeedQueryPort;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.codec.TypedJsonJacksonCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 카드(게시글 요약)를 게시글 아이디 기준으로 캐싱합니다.
+ * <p>
+ * 노드 내부의 크기 제한 캐시 → Redis(MGET) → DB 순서로 조회하고, 빠진 게시글만 DB에서 한 번에 채웁니다.
+ * 카드에는 상호작용 유형별 수가 포함되며, DB에서 채울 때 빠진 게시글 전체의 수를 한 번에 조회합니다.
+ * 본문은 {@link FeedContentPreview}로 줄인 미리보기만 담고, 전체 본문은 게시글 상세에서 조회합니다.
+ * 게시글이 바뀌면 Redis 항목을 지우고 토픽으로 모든 노드의 내부 캐시를 무효화합니다.
+ */
+@Slf4j
+@Component
+public class FeedCardCache {
+
+	private static final String CARD_KEY_PREFIX = "feed:card:";
+	private static final String EVICT_TOPIC = "feed:card:evict";
+
+	// 문자열 외 필드와 객체 헤더의 대략적인 크기
+	private static final int BASE_WEIGHT = 128;
+
+	private final PostFeedQueryPort postFeedQueryPort;
+	private final InteractionCountRepository interactionCountRepository;
+	private final FeedContentPreview feedContentPreview;
+	private final RedissonClient redissonClient;
+	private final FeedProperties.CardCache cardCacheProperties;
+	private final TypedJsonJacksonCodec codec;
+	private final Cache<Long, PostFeedDto> localCache;
+
+	private RTopic evictTopic;
+	private int listenerId;
+
+	public FeedCardCache(PostFeedQueryPort postFeedQueryPort, InteractionCountRepository interactionCountRepository,
+						 FeedContentPreview feedContentPreview, RedissonClient redissonClient, FeedProperties feedProperties,
+						 ObjectMapper objectMapper) {
+		this.postFeedQueryPort = postFeedQueryPort;
+		this.interactionCountRepository = interactionCountRepository;
+		this.feedContentPreview = feedContentPreview;
+		this.redissonClient = redissonClient;
+		this.cardCacheProperties = feedProperties.cardCache();
+		this.codec = new TypedJsonJacksonCodec(PostFeedDto.class, objectMapper);
+		this.localCache = CacheBuilder.newBuilder()
+				.maximumWeight(cardCacheProperties.localMaxSize().toBytes())
+				.weigher((Long postId, PostFeedDto dto) -> weigh(dto))
+				.expireAfterWrite(cardCacheProperties.localTtl())
+				.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		evictTopic = redissonClient.getTopic(EVICT_TOPIC, LongCodec.INSTANCE);
+		listenerId = evictTopic.addListener(Long.class, (channel, postId) -> localCache.invalidate(postId));
+	}
+
+	@PreDestroy
+	void unsubscribe() {
+		evictTopic.removeListener(listenerId);
+	}
+
+	/**
+	 * 게시글 카드를 조회합니다, 정상 상태가 아닌 게시글은 결과에 포함되지 않습니다
+	 * @param postIds	게시글 아이디
+	 * @return 게시글 아이디별 카드
+	 */
+	public Map<Long, PostFeedDto> findAllByIds(Collection<Long> postIds) {
+		Map<Long, PostFeedDto> result = new HashMap<>(localCache.getAllPresent(postIds));
+		Set<Long> misses = new HashSet<>(postIds);
+		misses.removeAll(result.keySet());
+		if (misses.isEmpty()) {
+			return result;
+		}
+
+		String[] keys = misses.stream().map(FeedCardCache::cardKey).toArray(String[]::new);
+		Map<String, PostFeedDto> remoteCards = redissonClient.getBuckets(codec).get(keys);
+		for (PostFeedDto dto : remoteCards.values()) {
+			result.put(dto.postId(), dto);
+			localCache.put(dto.postId(), dto);
+			misses.remove(dto.postId());
+		}
+		if (misses.isEmpty()) {
+			return result;
+		}
+
+		List<PostFeedDto> loadedCards = postFeedQueryPort.findAllByIds(misses);
+		if (!loadedCards.isEmpty()) {
+			Map<Long, InteractionCount> interactionCounts = interactionCountRepository
+					.findAllByTargetTypeAndTargetIdIn(TargetType.POST, misses).stream()
+					.collect(Collectors.toMap(InteractionCount::getTargetId, count -> count));
+			RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+			for (PostFeedDto loaded : loadedCards) {
+				// 카드에는 본문 전체가 아닌 미리보기만 담아 두 캐시 계층의 크기를 줄입니다
+				PostFeedDto card = feedContentPreview.apply(loaded);
+				InteractionCount count = interactionCounts.get(loaded.postId());
+				PostFeedDto dto = count == null ? card : card.withInteractionCounts(count.toCounts());
+				result.put(dto.postId(), dto);
+				localCache.put(dto.postId(), dto);
+				batch.getBucket(cardKey(dto.postId()), codec).setAsync(dto, cardCacheProperties.remoteTtl());
+			}
+			batch.execute();
+		}
+
+		log.debug("피드 카드 조회: requested={}, db={}", postIds.size(), loadedCards.size());
+		return result;
+	}
+
+	/**
+	 * 게시글 카드를 모든 노드에서 무효화합니다
+	 * @param postId	게시글 아이디
+	 */
+	public void evict(Long postId) {
+		localCache.invalidate(postId);
+		redissonClient.getBucket(cardKey(postId), codec).delete();
+		evictTopic.publish(postId);
+	}
+
+	/**
+	 * 여러 게시글 카드를 모든 노드에서 한 번에 무효화합니다
+	 * @param postIds	게시글 아이디
+	 */
+	public void evictAll(Collection<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return;
+		}
+		localCache.invalidateAll(postIds);
+		RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+		for (Long postId : postIds) {
+			batch.getBucket(cardKey(postId), codec).deleteAsync();
+			batch.getTopic(EVICT_TOPIC, LongCodec.INSTANCE).publishAsync(postId);
+		}
+		batch.execute();
+	}
+
+	private static String cardKey(Long postId) {
+		return CARD_KEY_PREFIX + postId;
+	}
+
+	private static int weigh(PostFeedDto dto) {
+		return BASE_WEIGHT + 2 * (length(dto.subject()) + length(dto.content()) + length(dto.username()));
+	}
+
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
+	}
+
+}
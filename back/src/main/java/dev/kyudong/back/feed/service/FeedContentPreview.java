@@ -0,0 +1,112 @@
+package dev.kyudong.back.feed.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.kyudong.back.feed.api.dto.PostFeedDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 카드에 담을 본문 미리보기를 만듭니다.
+ * 에디터 문서(JSON)에서 앞쪽 블록만 남기고 글자 수를 제한하므로, 결과도 그대로 렌더링할 수 있는 문서입니다.
+ * 전체 본문은 게시글 상세에서 조회합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedContentPreview {
+
+	private static final int MAX_BLOCKS = 5;
+	private static final int MAX_TEXT_LENGTH = 300;
+
+	// 이보다 짧은 본문은 줄일 필요가 없어 파싱하지 않습니다
+	private static final int MAX_RAW_LENGTH = 1024;
+
+	private static final String CONTENT_FIELD = "content";
+	private static final String TEXT_FIELD = "text";
+	private static final String EMPTY_DOCUMENT = "{\"type\":\"doc\",\"content\":[]}";
+
+	private final ObjectMapper objectMapper;
+
+	public PostFeedDto apply(PostFeedDto dto) {
+		return dto.withContent(preview(dto.content()));
+	}
+
+	/**
+	 * @param content	에디터 문서
+	 * @return 앞쪽 블록만 남긴 문서, 문서를 읽을 수 없다면 빈 문서
+	 */
+	public String preview(String content) {
+		if (content == null || content.length() <= MAX_RAW_LENGTH) {
+			return content;
+		}
+
+		try {
+			JsonNode document = objectMapper.readTree(content);
+			if (!document.path(CONTENT_FIELD).isArray()) {
+				return EMPTY_DOCUMENT;
+			}
+
+			Budget budget = new Budget();
+			ArrayNode blocks = objectMapper.createArrayNode();
+			for (JsonNode block : document.get(CONTENT_FIELD)) {
+				if (blocks.size() == MAX_BLOCKS || budget.isExhausted()) {
+					break;
+				}
+				blocks.add(trim(block, budget));
+			}
+
+			ObjectNode preview = ((ObjectNode) document).deepCopy();
+			preview.set(CONTENT_FIELD, blocks);
+			return objectMapper.writeValueAsString(preview);
+		} catch (JsonProcessingException | ClassCastException e) {
+			log.warn("게시글 본문 미리보기를 만들지 못했습니다: length={}", content.length());
+			return EMPTY_DOCUMENT;
+		}
+	}
+
+	private static JsonNode trim(JsonNode node, Budget budget) {
+		if (!node.isObject()) {
+			return node;
+		}
+
+		ObjectNode trimmed = ((ObjectNode) node).deepCopy();
+		JsonNode text = node.get(TEXT_FIELD);
+		if (text != null && text.isTextual()) {
+			trimmed.put(TEXT_FIELD, budget.take(text.asText()));
+		}
+
+		JsonNode children = node.get(CONTENT_FIELD);
+		if (children != null && children.isArray()) {
+			ArrayNode trimmedChildren = trimmed.putArray(CONTENT_FIELD);
+			for (JsonNode child : children) {
+				if (budget.isExhausted()) {
+					break;
+				}
+				trimmedChildren.add(trim(child, budget));
+			}
+		}
+		return trimmed;
+	}
+
+	private static final class Budget {
+
+		private int remaining = MAX_TEXT_LENGTH;
+
+		private boolean isExhausted() {
+			return remaining <= 0;
+		}
+
+		private String take(String text) {
+			String taken = text.length() <= remaining ? text : text.substring(0, remaining);
+			remaining -= taken.length();
+			return taken;
+		}
+
+	}
+
+}
@@ -1,31 +1,35 @@
 package dev.kyudong.back.feed.service;
 
+import dev.kyudong.back.feed.api.dto.FeedCandidate;
 import dev.kyudong.back.feed.api.dto.ItemWithScore;
 import dev.kyudong.back.feed.api.dto.PostFeedDto;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.feed.ranker.FeedFeatures;
+import dev.kyudong.back.feed.ranker.FeedRanker;
+import dev.kyudong.back.feed.ranker.FeedRankerSelector;
+import dev.kyudong.back.feed.repository.FeedInboxRepository;
+import dev.kyudong.back.feed.repository.FeedSeenRepository;
+import dev.kyudong.back.feed.repository.FeedSnapshotRepository;
 import dev.kyudong.back.follow.repository.FollowRepository;
+import dev.kyudong.back.interaction.domain.InteractionType;
+import dev.kyudong.back.interaction.domain.TargetType;
+import dev.kyudong.back.interaction.repository.InteractionRepository;
 import dev.kyudong.back.post.application.port.out.web.PostFeedQueryPort;
-import dev.kyudong.back.user.domain.User;
-import dev.kyudong.back.user.service.UserReaderService;
-import dev.kyudong.back.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RBloomFilter;
-import org.redisson.api.RList;
+import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
-import org.springframework.scheduling.annotation.Async;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 @Slf4j
@@ -34,189 +38,441 @@ import java.util.stream.Stream;
 @Transactional(readOnly = true)
 public class FeedGenerator {
 
+	private static final String GENERATING_SUFFIX = ":generating";
+
+	private static final String SUCCESS = "success";
+	private static final String TIMEOUT = "timeout";
+	private static final String REJECTED = "rejected";
+	private static final String ERROR = "error";
+
+	// 공용 게스트 피드마다 점수를 흔드는 최대 비율
+	private static final double GUEST_JITTER = 0.5;
+
 	private final PostFeedQueryPort postFeedQueryPort;
 	private final FollowRepository followRepository;
 	private final ExecutorService feedExecutorService;
 	private final TransactionTemplate transactionTemplate;
 	private final RedissonClient redissonClient;
-	private final UserReaderService userReaderService;
+	private final FeedInboxRepository feedInboxRepository;
+	private final FeedProperties feedProperties;
+	private final FeedCandidatePool feedCandidatePool;
+	private final FeedSeenRepository feedSeenRepository;
+	private final FeedSnapshotRepository feedSnapshotRepository;
+	private final FeedRankerSelector feedRankerSelector;
+	private final InteractionRepository interactionRepository;
+	private final MeterRegistry meterRegistry;
+	private final FeedOldPostSampler feedOldPostSampler;
+
+	/**
+	 * 피드 키별로 현재 노드에서 진행 중인 생성 작업
+	 */
+	private final ConcurrentMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * 사용자의 피드 목록을 생성합니다.
+	 * 같은 피드 키의 생성이 이미 진행 중이라면 새로 생성하지 않고 진행 중인 작업을 반환합니다
+	 * @param userId	사용자 고유 아이디
+	 * @param feedKey	저장될 키
+	 * @return 생성 작업, 다른 노드에서 생성 중이라면 즉시 완료된 작업
+	 */
+	public CompletableFuture<Void> generateForUser(Long userId, String feedKey) {
+		return generateForUser(userId, feedKey, feedExecutorService);
+	}
+
+	/**
+	 * 사용자의 피드 목록을 지정한 스레드 풀에서 생성합니다.
+	 * 미리 생성처럼 요청과 분리해야 하는 작업은 전용 스레드 풀을 넘겨 피드 전용 스레드 풀과 큐를 차지하지 않게 합니다
+	 * @param userId	사용자 고유 아이디
+	 * @param feedKey	저장될 키
+	 * @param executor	후보 조회와 순위 계산을 실행할 스레드 풀
+	 * @return 생성 작업, 다른 노드에서 생성 중이라면 즉시 완료된 작업
+	 */
+	public CompletableFuture<Void> generateForUser(Long userId, String feedKey, ExecutorService executor) {
+		return singleFlight(feedKey, () -> generateAndCacheFeedForUser(userId, feedKey, executor));
+	}
+
+	/**
+	 * 모든 게스트가 나누어 읽는 공용 게스트 피드를 생성합니다.
+	 * 같은 피드 키의 생성이 이미 진행 중이라면 새로 생성하지 않고 진행 중인 작업을 반환합니다
+	 * @param variant	게스트 피드 번호
+	 * @param feedKey	저장될 키
+	 * @return 생성 작업, 다른 노드에서 생성 중이라면 즉시 완료된 작업
+	 */
+	public CompletableFuture<Void> generateForGuest(int variant, String feedKey) {
+		return singleFlight(feedKey, () -> generateAndCacheFeedForGuest(variant, feedKey));
+	}
+
+	/**
+	 * 노드 내부는 in-flight 맵으로, 노드 간에는 Redis 마커로 피드 키당 하나의 생성만 실행합니다
+	 * @param feedKey		피드 키
+	 * @param generation	실제 생성 작업
+	 * @return 생성 작업
+	 */
+	private CompletableFuture<Void> singleFlight(String feedKey, Supplier<CompletableFuture<Void>> generation) {
+		CompletableFuture<Void> placeholder = new CompletableFuture<>();
+		CompletableFuture<Void> existing = inFlight.putIfAbsent(feedKey, placeholder);
+		if (existing != null) {
+			log.debug("진행 중인 피드 생성에 합류합니다: {}", feedKey);
+			return existing;
+		}
+
+		String token = UUID.randomUUID().toString();
+		RBucket<String> marker = redissonClient.getBucket(feedKey + GENERATING_SUFFIX, StringCodec.INSTANCE);
+		if (!marker.setIfAbsent(token, feedProperties.generation().markerTtl())) {
+			log.debug("다른 노드에서 피드를 생성 중입니다: {}", feedKey);
+			inFlight.remove(feedKey, placeholder);
+			placeholder.complete(null);
+			return placeholder;
+		}
+
+		try {
+			generation.get().whenComplete((result, throwable) -> {
+				release(feedKey, placeholder, marker, token);
+				if (throwable != null) {
+					placeholder.completeExceptionally(throwable);
+				} else {
+					placeholder.complete(null);
+				}
+			});
+		} catch (RuntimeException e) {
+			log.warn("피드 생성을 시작하지 못했습니다: {}", feedKey, e);
+			release(feedKey, placeholder, marker, token);
+			placeholder.completeExceptionally(e);
+		}
+		return placeholder;
+	}
+
+	private void release(String feedKey, CompletableFuture<Void> placeholder, RBucket<String> marker, String token) {
+		inFlight.remove(feedKey, placeholder);
+		marker.compareAndSet(token, null);
+	}
 
 	/**
 	 * 사용자의 피드 목록을 생성합니다
 	 * @param userId	사용자 고유 아이디
 	 * @param feedKey	저장될 키
+	 * @param executor	후보 조회와 순위 계산을 실행할 스레드 풀
 	 */
-	@Async
-	protected void generateAndCacheFeedForUser(Long userId, String feedKey) {
+	private CompletableFuture<Void> generateAndCacheFeedForUser(Long userId, String feedKey, ExecutorService executor) {
 		log.debug("사용자 피드목록을 생성을 시작합니다: {}", feedKey);
+		long startNanos = System.nanoTime();
+		long deadlineNanos = startNanos + feedProperties.deadline().budget().toNanos();
 
-		// 최신 게시글 (48시간 내에 생성된 게시글)
-		CompletableFuture<List<PostFeedDto>> future1 = CompletableFuture.supplyAsync(() ->
-				transactionTemplate.execute(action ->
-						postFeedQueryPort.findRecentPosts(userId, Instant.now().minus(48, ChronoUnit.HOURS), 100)
-				), feedExecutorService);
+		// 최신 게시글, 인기 게시글은 공용 후보 풀에서 본인 게시글만 제외합니다
+		List<FeedCandidate> recentCandidates = feedCandidatePool.findRecent(userId);
+		List<FeedCandidate> popularCandidates = feedCandidatePool.findPopular(userId);
 
-		// 인기가 많은 게시글 (30일 내에 인기가 많은 게시글)
-		CompletableFuture<List<PostFeedDto>> future2 = CompletableFuture.supplyAsync(() ->
-				transactionTemplate.execute(action ->
-						postFeedQueryPort.findPopularPosts(userId, Instant.now().minus(30, ChronoUnit.DAYS), 200)
-				), feedExecutorService);
-
-		// 예전에 나온 게시글 (6개월 전 생성된 게시글)
-		CompletableFuture<List<PostFeedDto>> future3 = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(action -> {
-			Set<Long> randomPostIds = redissonClient.getSet("feed:random_post_ids");
+		// 예전에 나온 게시글 (6개월 전 생성된 게시글 표본 풀 중 하나)
+		CompletableFuture<List<PostFeedDto>> randomFuture = supplySource(executor, "random", deadlineNanos, List.of(), () -> {
+			Set<Long> randomPostIds = feedOldPostSampler.draw();
 
 			if (randomPostIds.isEmpty()) {
 				return new ArrayList<>();
 			}
 
 			return postFeedQueryPort.findAllByIds(userId, randomPostIds);
-		}), feedExecutorService);
+		});
+
+		// 팔로우 피드 (인박스 + pull 방식 작성자), 팔로우 목록 조회도 생성 예산 안에서 실행합니다
+		CompletableFuture<FollowingSource> followingFuture = supplySource(executor, "following", deadlineNanos, FollowingSource.EMPTY, () -> {
+			List<Long> followingIds = followRepository.findFollowingIds(userId);
+			return new FollowingSource(followingIds, findFollowingPosts(userId, followingIds, 200));
+		});
 
-		// 팔로우 피드
-		CompletableFuture<List<PostFeedDto>> future4 = CompletableFuture.supplyAsync(() ->
-				transactionTemplate.execute(action ->
-						postFeedQueryPort.findByFollowingPost(userId, 200)
-				), feedExecutorService);
+		// 작성자별 친밀도 (최근 30일 상호작용), 순위 계산기가 사용할 때만 집계합니다
+		FeedRanker feedRanker = feedRankerSelector.select(userId);
+		CompletableFuture<Map<Long, Double>> affinityFuture = feedRanker.usesAuthorAffinity()
+				? supplySource(executor, "affinity", deadlineNanos, Map.of(), () -> findAuthorAffinities(userId))
+				: CompletableFuture.completedFuture(Map.of());
 
-		CompletableFuture.allOf(future1, future2, future3, future4)
-			.thenRun(() -> {
+		return CompletableFuture.allOf(randomFuture, followingFuture, affinityFuture)
+			.thenRunAsync(() -> {
 				transactionTemplate.execute(status -> {
 					try {
-						User user = userReaderService.getUserReference(userId);
-						List<Long> followingList = followRepository.findByFollowingWithFollower(user).stream()
-								.map(f -> f.getFollowing().getId())
-								.toList();
+						FollowingSource following = followingFuture.join();
+						List<FeedCandidate> merged = mergeCandidates(
+								following.posts(), randomFuture.join(), recentCandidates, popularCandidates);
+						Set<Long> seenPostIds = feedSeenRepository.findSeen(
+								FeedSeenRepository.userKey(userId), merged.stream().map(FeedCandidate::postId).toList());
 
-						String seenKey = "feed_seen:user" + userId;
-						RBloomFilter<Long> seenFilter = redissonClient.getBloomFilter(seenKey);
-						if (!seenFilter.isExists()) {
-							seenFilter.tryInit(10_000, 0.01);
-						}
-
-						List<ItemWithScore> candidates = Stream.of(future1, future2, future3, future4)
-								.flatMap(f -> f.join().stream())
-								.distinct()
-								.filter(dto -> !seenFilter.contains(dto.postId()))
-								.map(dto -> new ItemWithScore(dto, calculatePostScore(dto, followingList)))
-								.sorted(Comparator.comparingDouble(ItemWithScore::postScore).reversed())
+						List<FeedCandidate> unseen = merged.stream()
+								.filter(candidate -> !seenPostIds.contains(candidate.postId()))
 								.toList();
+						List<ItemWithScore> ranked = rank(feedRanker, unseen, new HashSet<>(following.followingIds()), affinityFuture.join());
+						List<ItemWithScore> candidates = FeedInterleaver.interleave(
+								ranked, feedProperties.diversity().maxPerAuthor(), feedProperties.diversity().window());
 
-						RList<String> feedCache = redissonClient.getList(feedKey);
-						feedCache.clear();
-						if (!candidates.isEmpty()) {
-							List<String> cachePostIds =  candidates.stream()
-									.map(itemWithScore -> String.valueOf(itemWithScore.detailResDto().postId()))
-									.toList();
-							feedCache.addAll(cachePostIds);
-						}
-
-						feedCache.expire(Duration.ofMinutes(30));
+						feedSnapshotRepository.save(feedKey, toPostIds(candidates), feedProperties.generation().userSoftTtl());
+						recordGeneration("user", startNanos, deadlineNanos, SUCCESS);
 					} catch (Exception e) {
 						log.error("사용자 피드 생성 중 오류가 발생했습니다", e);
+						recordGeneration("user", startNanos, deadlineNanos, ERROR);
 						status.setRollbackOnly();
 					}
 					return null;
 				});
-			})
+			}, executor)
 			.exceptionally(throwable -> {
 				log.error("사용자 피드 생성 중 오류가 발생했습니다", throwable);
+				recordGeneration("user", startNanos, deadlineNanos, outcomeOf(throwable));
 				return null;
 			});
 	}
 
 	/**
-	 * 게스트의 피드 목록을 생성합니다
-	 * @param guestId 게스트 아이디
+	 * 공용 게스트 피드를 생성합니다.
+	 * 게스트별 본 게시글은 읽는 시점에 거르므로 여기서는 거르지 않고,
+	 * 피드마다 점수를 무작위로 흔들어 같은 후보로도 서로 다른 순서를 만듭니다
+	 * @param variant 게스트 피드 번호
 	 * @param feedKey 저장될 키
 	 */
-	@Async
-	protected void generateAndCacheFeedForGuest(String guestId, String feedKey) {
+	private CompletableFuture<Void> generateAndCacheFeedForGuest(int variant, String feedKey) {
 		log.debug("게스트 피드목록을 생성을 시작합니다: {}", feedKey);
+		long startNanos = System.nanoTime();
+		long deadlineNanos = startNanos + feedProperties.deadline().budget().toNanos();
 
-		// 최신 게시글 (48시간 내에 생성된 게시글)
-		CompletableFuture<List<PostFeedDto>> future1 = CompletableFuture.supplyAsync(() ->
-				transactionTemplate.execute(action ->
-						postFeedQueryPort.findRecentPosts(Instant.now().minus(48, ChronoUnit.HOURS), 100)
-				), feedExecutorService);
-
-		// 인기가 많은 게시글 (30일 내에 인기가 많은 게시글)
-		CompletableFuture<List<PostFeedDto>> future2 = CompletableFuture.supplyAsync(() ->
-				transactionTemplate.execute(action ->
-						postFeedQueryPort.findPopularPosts(Instant.now().minus(30, ChronoUnit.DAYS), 200)
-				), feedExecutorService);
+		// 최신 게시글, 인기 게시글은 공용 후보 풀을 그대로 사용합니다
+		List<FeedCandidate> recentCandidates = feedCandidatePool.findRecent(null);
+		List<FeedCandidate> popularCandidates = feedCandidatePool.findPopular(null);
 
-		// 예전에 나온 게시글 (6개월 전 생성된 게시글)
-		CompletableFuture<List<PostFeedDto>> future3 = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(action -> {
-			Set<Long> randomPostIds = redissonClient.getSet("feed:random_post_ids");
+		// 예전에 나온 게시글 (6개월 전 생성된 게시글 표본 풀 중 하나)
+		CompletableFuture<List<PostFeedDto>> randomFuture = supplySource(feedExecutorService, "random", deadlineNanos, List.of(), () -> {
+			Set<Long> randomPostIds = feedOldPostSampler.draw();
 
 			if (randomPostIds.isEmpty()) {
 				return new ArrayList<>();
 			}
 
 			return postFeedQueryPort.findAllByIds(randomPostIds);
-		}), feedExecutorService);
+		});
 
-		CompletableFuture.allOf(future1, future2, future3)
-			.thenRun(() -> {
+		FeedRanker feedRanker = feedRankerSelector.select(null);
+		return randomFuture
+			.thenRunAsync(() -> {
 				transactionTemplate.execute((status) -> {
 					try {
-						String seenKey = "feed_seen:guest" + guestId;
-						RBloomFilter<Long> seenFilter = redissonClient.getBloomFilter(seenKey);
-						if (!seenFilter.isExists()) {
-							seenFilter.tryInit(10_000, 0.01);
-						}
-
-						List<ItemWithScore> candidates = Stream.of(future1, future2, future3)
-								.flatMap(f -> f.join().stream())
-								.distinct()
-								.filter(dto -> !seenFilter.contains(dto.postId()))
-								.map(p -> new ItemWithScore(p, calculatePostScore(p, new ArrayList<>())))
-								.sorted(Comparator.comparingDouble(ItemWithScore::postScore).reversed())
-								.toList();
+						List<FeedCandidate> merged = mergeCandidates(
+								List.of(), randomFuture.join(), recentCandidates, popularCandidates);
 
-						RList<String> feedCache = redissonClient.getList(feedKey);
-						feedCache.clear();
-						if (!candidates.isEmpty()) {
-							List<String> cachePostIds =  candidates.stream()
-									.map(itemWithScore -> String.valueOf(itemWithScore.detailResDto().postId()))
-									.toList();
-							feedCache.addAll(cachePostIds);
-						}
+						List<ItemWithScore> ranked = jitter(rank(feedRanker, merged, Set.of(), Map.of()));
+						List<ItemWithScore> candidates = FeedInterleaver.interleave(
+								ranked, feedProperties.diversity().maxPerAuthor(), feedProperties.diversity().window());
 
-						feedCache.expire(Duration.ofMinutes(60));
+						feedSnapshotRepository.save(feedKey, toPostIds(candidates), feedProperties.generation().guestSoftTtl());
+						recordGeneration("guest", startNanos, deadlineNanos, SUCCESS);
 					} catch (Exception e) {
 						log.error("게스트 피드 생성 중 오류가 발생했습니다", e);
+						recordGeneration("guest", startNanos, deadlineNanos, ERROR);
 						status.setRollbackOnly();
 					}
 					return null;
 				});
-			})
+			}, feedExecutorService)
 			.exceptionally(throwable -> {
 				log.error("게스트 피드 생성 중 오류가 발생했습니다", throwable);
+				recordGeneration("guest", startNanos, deadlineNanos, outcomeOf(throwable));
 				return null;
 			});
 	}
 
 	/**
-	 * 게시글의 총점수를 계산합니다
-	 * @param postFeedDto   게시글과 댓글 개수
-	 * @param followingIds			팔로우 목록
-	 * @return 계산된 점수
+	 * 후보 소스를 지정한 스레드 풀에서 읽기 전용 트랜잭션으로 조회합니다.
+	 * 소스별 제한 시간과 전체 생성 예산 중 먼저 끝나는 시점이 지나거나 작업 큐가 가득 차면
+	 * 기본값으로 완료되어, 느린 소스는 지연 대신 피드 품질만 낮춥니다.
+	 * <p>
+	 * 제한 시간이 지난 작업은 취소하여 큐에서 기다리던 작업은 실행되지 않고 실행 중인 작업은 인터럽트됩니다.
+	 * 인터럽트에 반응하지 않는 쿼리는 트랜잭션 타임아웃(초 단위로 올림)이 쿼리 타임아웃으로 끊습니다
+	 * @param executor		소스를 조회할 스레드 풀
+	 * @param source		소스 이름, 지표 태그로 사용합니다
+	 * @param deadlineNanos	전체 생성 예산이 끝나는 시점({@link System#nanoTime()} 기준)
+	 * @param fallback		소스를 사용할 수 없을 때의 기본값
+	 * @param supplier		소스 조회 작업
+	 * @return 조회 결과 또는 기본값
 	 */
-	private double calculatePostScore(PostFeedDto postFeedDto, List<Long> followingIds) {
-		double postScore = postFeedDto.score();
-		double popularityScore = (postFeedDto.viewCount() * 0.1) + postScore + (postFeedDto.commentCount() * 1.2) + 1;
+	private <T> CompletableFuture<T> supplySource(ExecutorService executor, String source, long deadlineNanos, T fallback, Supplier<T> supplier) {
+		long remainingNanos = Math.max(deadlineNanos - System.nanoTime(), 0L);
+		long timeoutNanos = Math.min(feedProperties.deadline().sourceTimeout().toNanos(), remainingNanos);
+		TransactionTemplate sourceTransaction = sourceTransaction(timeoutNanos);
 
-		long hoursSinceCreation = ChronoUnit.HOURS.between(postFeedDto.createdAt(), Instant.now());
-		double recencyWeight = Math.max(0.1, 1.0 - (hoursSinceCreation / (24.0 * 7)));
+		CompletableFuture<T> future = new CompletableFuture<>();
+		Future<?> task;
+		try {
+			task = executor.submit(() -> {
+				try {
+					future.complete(sourceTransaction.execute(status -> supplier.get()));
+				} catch (RuntimeException e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("피드 작업 큐가 가득 차 후보 소스를 건너뜁니다: source={}", source);
+			recordSource(source, REJECTED);
+			return CompletableFuture.completedFuture(fallback);
+		}
 
-		double personalizationWeight = 1.0;
-		if (followingIds.contains(postFeedDto.authorId())) {
-			personalizationWeight = 5.0;
+		return future
+				.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS)
+				.handle((result, throwable) -> {
+					if (throwable == null) {
+						recordSource(source, SUCCESS);
+						return result;
+					}
+
+					String outcome = outcomeOf(throwable);
+					if (TIMEOUT.equals(outcome)) {
+						task.cancel(true);
+						log.warn("후보 소스가 제한 시간 안에 끝나지 않아 취소합니다: source={}", source);
+					} else {
+						log.warn("후보 소스 조회 중 오류가 발생해 제외합니다: source={}", source, throwable);
+					}
+					recordSource(source, outcome);
+					return fallback;
+				});
+	}
+
+	private TransactionTemplate sourceTransaction(long timeoutNanos) {
+		TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+		template.setReadOnly(true);
+		template.setTimeout((int) Math.max(1L, (timeoutNanos + 999_999_999L) / 1_000_000_000L));
+		return template;
+	}
+
+	private void recordSource(String source, String outcome) {
+		meterRegistry.counter("feed.generation.source", "source", source, "outcome", outcome).increment();
+	}
+
+	private void recordGeneration(String type, long startNanos, long deadlineNanos, String outcome) {
+		long endNanos = System.nanoTime();
+		if (endNanos > deadlineNanos) {
+			log.warn("피드 생성이 예산을 초과했습니다: type={}, elapsed={}ms",
+					type, TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos));
+		}
+		meterRegistry.timer("feed.generation", "type", type, "outcome", outcome)
+				.record(endNanos - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private static String outcomeOf(Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+		if (cause instanceof TimeoutException) {
+			return TIMEOUT;
+		}
+		if (cause instanceof RejectedExecutionException) {
+			return REJECTED;
 		}
+		return ERROR;
+	}
+
+	private long[] toPostIds(List<ItemWithScore> candidates) {
+		return candidates.stream()
+				.mapToLong(itemWithScore -> itemWithScore.candidate().postId())
+				.toArray();
+	}
+
+	/**
+	 * 팔로우 중인 작성자의 게시글을 조회합니다.
+	 * 인박스에 배달된 게시글과 pull 방식 작성자의 최근 게시글을 병합합니다
+	 * @param userId		사용자 고유 아이디
+	 * @param followingList	팔로우 목록
+	 * @param size			소스별 최대 조회 개수
+	 * @return 팔로우 게시글
+	 */
+	private List<PostFeedDto> findFollowingPosts(Long userId, List<Long> followingList, int size) {
+		List<PostFeedDto> followingPosts = new ArrayList<>();
+
+		Set<Long> inboxPostIds = new HashSet<>(feedInboxRepository.findPostIds(userId, size));
+		if (!inboxPostIds.isEmpty()) {
+			followingPosts.addAll(postFeedQueryPort.findAllByIds(userId, inboxPostIds));
+		}
+
+		Set<Long> pullAuthorIds = feedInboxRepository.findPullAuthors(followingList);
+		if (!pullAuthorIds.isEmpty()) {
+			Instant since = Instant.now().minus(feedProperties.inbox().ttl());
+			followingPosts.addAll(postFeedQueryPort.findByAuthorIds(pullAuthorIds, since, size));
+		}
+
+		return followingPosts;
+	}
+
+	/**
+	 * 소스별 후보를 게시글 아이디 기준으로 중복 제거하여 합칩니다.
+	 * DB에서 바로 조회한 팔로우, 랜덤 게시글을 먼저 넣어 후보 풀보다 최신 값을 우선합니다
+	 * @param followingPosts	팔로우 게시글
+	 * @param randomPosts		랜덤 게시글
+	 * @param poolCandidates	공용 후보 풀 게시글
+	 * @return 중복이 제거된 후보
+	 */
+	@SafeVarargs
+	private List<FeedCandidate> mergeCandidates(List<PostFeedDto> followingPosts, List<PostFeedDto> randomPosts,
+												List<FeedCandidate>... poolCandidates) {
+		Map<Long, FeedCandidate> merged = new LinkedHashMap<>();
+		Stream.concat(followingPosts.stream(), randomPosts.stream())
+				.map(FeedCandidate::from)
+				.forEach(candidate -> merged.putIfAbsent(candidate.postId(), candidate));
+		for (List<FeedCandidate> candidates : poolCandidates) {
+			candidates.forEach(candidate -> merged.putIfAbsent(candidate.postId(), candidate));
+		}
+		return new ArrayList<>(merged.values());
+	}
+
+	/**
+	 * 후보의 특성을 추출해 순위 계산기로 점수를 매기고 점수순으로 정렬합니다
+	 * @param feedRanker		순위 계산기
+	 * @param candidates		후보 게시글
+	 * @param followingIds		팔로우 중인 작성자 아이디
+	 * @param authorAffinities	작성자별 친밀도
+	 * @return 점수순 게시글
+	 */
+	private List<ItemWithScore> rank(FeedRanker feedRanker, List<FeedCandidate> candidates,
+									 Set<Long> followingIds, Map<Long, Double> authorAffinities) {
+		long startNanos = System.nanoTime();
+		FeedFeatures features = FeedFeatures.extract(candidates, followingIds, authorAffinities, Instant.now());
+		double[] scores = new double[features.size()];
+		feedRanker.score(features, scores);
+
+		List<ItemWithScore> ranked = new ArrayList<>(candidates.size());
+		for (int i = 0; i < candidates.size(); i++) {
+			ranked.add(new ItemWithScore(candidates.get(i), scores[i]));
+		}
+		ranked.sort(Comparator.comparingDouble(ItemWithScore::postScore).reversed());
+
+		log.debug("피드 순위 계산 완료: ranker={}, candidates={}, elapsed={}us",
+				feedRanker.name(), candidates.size(), (System.nanoTime() - startNanos) / 1_000);
+		return ranked;
+	}
+
+	/**
+	 * 점수에 무작위 배수를 곱해 다시 정렬합니다, 점수 차이가 큰 게시글의 순서는 크게 바뀌지 않습니다
+	 * @param ranked	점수순 게시글
+	 * @return 흔들린 점수순 게시글
+	 */
+	private List<ItemWithScore> jitter(List<ItemWithScore> ranked) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		List<ItemWithScore> jittered = new ArrayList<>(ranked.size());
+		for (ItemWithScore item : ranked) {
+			double factor = 1.0 + GUEST_JITTER * random.nextDouble();
+			jittered.add(new ItemWithScore(item.candidate(), item.postScore() * factor));
+		}
+		jittered.sort(Comparator.comparingDouble(ItemWithScore::postScore).reversed());
+		return jittered;
+	}
+
+	private Map<Long, Double> findAuthorAffinities(Long userId) {
+		Map<Long, Double> affinities = new HashMap<>();
+		interactionRepository.findAuthorAffinities(
+				userId, TargetType.POST, InteractionType.getPositiveTypes(), Instant.now().minus(30, ChronoUnit.DAYS)
+		).forEach(tuple -> affinities.put(
+				tuple.get("authorId", Long.class), tuple.get("affinity", Number.class).doubleValue()));
+		return affinities;
+	}
+
+	/**
+	 * 팔로우 소스의 조회 결과
+	 * @param followingIds	팔로우 중인 작성자 아이디
+	 * @param posts			팔로우 게시글
+	 */
+	private record FollowingSource(List<Long> followingIds, List<PostFeedDto> posts) {
 
-		return (popularityScore * recencyWeight) * personalizationWeight;
+		static final FollowingSource EMPTY = new FollowingSource(List.of(), List.of());
 	}
 
 }
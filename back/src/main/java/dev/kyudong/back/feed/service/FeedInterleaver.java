@@ -0,0 +1,75 @@
+package dev.kyudong.back.feed.service;
+
+import dev.kyudong.back.feed.api.dto.ItemWithScore;
+
+import java.util.*;
+
+/**
+ * 순위순 게시글을 작성자가 고르게 섞이도록 재배치합니다.
+ * <p>
+ * 연속된 {@code window}개 위치 안에 같은 작성자의 게시글이 {@code maxPerAuthor}개를 넘지 않도록,
+ * 자리를 차지할 수 없는 게시글은 보류했다가 가능한 가장 이른 위치에 순위순으로 다시 넣습니다.
+ * 게시글을 버리지 않으므로 제한을 지킬 수 없는 꼬리 부분에서는 보류된 게시글이 순위순으로 그대로 이어집니다.
+ */
+public final class FeedInterleaver {
+
+	private FeedInterleaver() {
+	}
+
+	/**
+	 * @param ranked		순위순 게시글
+	 * @param maxPerAuthor	구간 내 작성자별 최대 게시글 수
+	 * @param window		제한을 적용하는 연속 위치 수
+	 * @return 재배치된 게시글
+	 */
+	public static List<ItemWithScore> interleave(List<ItemWithScore> ranked, int maxPerAuthor, int window) {
+		List<ItemWithScore> result = new ArrayList<>(ranked.size());
+		List<ItemWithScore> deferred = new LinkedList<>();
+		Deque<Long> recentAuthors = new ArrayDeque<>(window);
+		Map<Long, Integer> authorCounts = new HashMap<>();
+		Iterator<ItemWithScore> source = ranked.iterator();
+
+		while (result.size() < ranked.size()) {
+			// 이번 위치를 포함해 window개가 되도록 직전 window - 1개 위치의 작성자만 남깁니다
+			while (recentAuthors.size() >= window) {
+				authorCounts.computeIfPresent(recentAuthors.removeFirst(), (key, count) -> count > 1 ? count - 1 : null);
+			}
+
+			ItemWithScore next = pollAllowed(deferred, authorCounts, maxPerAuthor);
+			while (next == null && source.hasNext()) {
+				ItemWithScore candidate = source.next();
+				if (isAllowed(candidate, authorCounts, maxPerAuthor)) {
+					next = candidate;
+				} else {
+					deferred.add(candidate);
+				}
+			}
+			if (next == null) {
+				next = deferred.remove(0);
+			}
+
+			result.add(next);
+			Long authorId = next.candidate().authorId();
+			recentAuthors.addLast(authorId);
+			authorCounts.merge(authorId, 1, Integer::sum);
+		}
+		return result;
+	}
+
+	private static ItemWithScore pollAllowed(List<ItemWithScore> deferred, Map<Long, Integer> authorCounts, int maxPerAuthor) {
+		Iterator<ItemWithScore> iterator = deferred.iterator();
+		while (iterator.hasNext()) {
+			ItemWithScore item = iterator.next();
+			if (isAllowed(item, authorCounts, maxPerAuthor)) {
+				iterator.remove();
+				return item;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isAllowed(ItemWithScore item, Map<Long, Integer> authorCounts, int maxPerAuthor) {
+		return authorCounts.getOrDefault(item.candidate().authorId(), 0) < maxPerAuthor;
+	}
+
+}
@@ -0,0 +1,166 @@
+package dev.kyudong.back.feed.service;
+
+import dev.kyudong.back.feed.api.dto.PostScoreDto;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.post.application.port.out.web.PostFeedQueryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.*;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오래된 게시글을 여러 개의 표본 풀로 나누어 관리합니다.
+ * <p>
+ * 한 노드가 락을 잡고 오래된 게시글을 아이디 순서로 나누어 읽으면서, 풀마다 점수 가중 저수지 표본 추출(A-Res)을 합니다.
+ * 아이디 범위에 빈 곳이 많아도 풀은 항상 가득 차고, 점수가 높았던 게시글이 더 자주 뽑힙니다.
+ * 피드 생성은 호출마다 다음 풀을 읽으므로 사용자마다 서로 다른 오래된 게시글을 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedOldPostSampler {
+
+	private static final String POOL_KEY_PREFIX = "feed:old_posts:";
+	private static final String LOCK_KEY = "feed:old_posts:lock";
+
+	private final PostFeedQueryPort postFeedQueryPort;
+	private final RedissonClient redissonClient;
+	private final FeedProperties feedProperties;
+
+	private final AtomicInteger nextPool = new AtomicInteger(ThreadLocalRandom.current().nextInt(Short.MAX_VALUE));
+
+	/**
+	 * 다음 표본 풀의 게시글 아이디를 조회합니다
+	 * @return 오래된 게시글 아이디
+	 */
+	public Set<Long> draw() {
+		int pool = Math.floorMod(nextPool.getAndIncrement(), feedProperties.oldPosts().pools());
+		return redissonClient.<Long>getSet(poolKey(pool), LongCodec.INSTANCE).readAll();
+	}
+
+	/**
+	 * 표본 풀이 갱신 주기보다 오래되었다면 다시 추출합니다
+	 */
+	public void refresh() {
+		FeedProperties.OldPosts properties = feedProperties.oldPosts();
+		Duration interval = properties.refreshInterval();
+		long remainMillis = redissonClient.getSet(poolKey(0), LongCodec.INSTANCE).remainTimeToLive();
+		if (remainMillis > interval.toMillis()) {
+			log.debug("오래된 게시글 표본이 아직 신선합니다");
+			return;
+		}
+
+		RLock lock = redissonClient.getLock(LOCK_KEY);
+		try {
+			if (!lock.tryLock(0, interval.toMillis(), TimeUnit.MILLISECONDS)) {
+				log.debug("다른 노드가 오래된 게시글 표본을 추출 중입니다");
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		try {
+			List<Reservoir> reservoirs = sample(properties);
+			save(reservoirs, interval.multipliedBy(2));
+			log.info("오래된 게시글 표본을 추출했습니다: pools={}, size={}",
+					reservoirs.size(), reservoirs.get(0).size());
+		} catch (Exception e) {
+			log.error("오래된 게시글 표본 추출 중 오류가 발생했습니다", e);
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	private List<Reservoir> sample(FeedProperties.OldPosts properties) {
+		List<Reservoir> reservoirs = new ArrayList<>(properties.pools());
+		for (int i = 0; i < properties.pools(); i++) {
+			reservoirs.add(new Reservoir(properties.poolSize()));
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Instant before = Instant.now().minus(properties.minAge());
+		long afterId = 0L;
+		List<PostScoreDto> chunk;
+		do {
+			chunk = postFeedQueryPort.findOldPostScores(afterId, before, properties.chunkSize());
+			for (PostScoreDto post : chunk) {
+				// 음수 점수도 뽑힐 수 있도록 1 이상으로 맞춥니다
+				double weight = Math.max(post.score(), 0.0D) + 1.0D;
+				for (Reservoir reservoir : reservoirs) {
+					// u^(1/w)의 로그, 값이 클수록 우선합니다
+					reservoir.offer(post.postId(), Math.log(1.0D - random.nextDouble()) / weight);
+				}
+			}
+			if (!chunk.isEmpty()) {
+				afterId = chunk.get(chunk.size() - 1).postId();
+			}
+		} while (chunk.size() == properties.chunkSize());
+		return reservoirs;
+	}
+
+	private void save(List<Reservoir> reservoirs, Duration ttl) {
+		RBatch batch = redissonClient.createBatch(BatchOptions.defaults().executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+		for (int i = 0; i < reservoirs.size(); i++) {
+			RSetAsync<Long> pool = batch.getSet(poolKey(i), LongCodec.INSTANCE);
+			pool.deleteAsync();
+			Set<Long> postIds = reservoirs.get(i).postIds();
+			if (!postIds.isEmpty()) {
+				pool.addAllAsync(postIds);
+			}
+			pool.expireAsync(ttl);
+		}
+		batch.execute();
+	}
+
+	private static String poolKey(int pool) {
+		return POOL_KEY_PREFIX + pool;
+	}
+
+	/**
+	 * 우선순위 값이 가장 큰 게시글만 정해진 수만큼 유지합니다
+	 */
+	private static final class Reservoir {
+
+		private final int capacity;
+		private final PriorityQueue<Entry> heap;
+
+		private Reservoir(int capacity) {
+			this.capacity = capacity;
+			this.heap = new PriorityQueue<>(capacity, Comparator.comparingDouble(Entry::key));
+		}
+
+		private void offer(long postId, double key) {
+			if (heap.size() < capacity) {
+				heap.add(new Entry(postId, key));
+			} else if (key > heap.peek().key()) {
+				heap.poll();
+				heap.add(new Entry(postId, key));
+			}
+		}
+
+		private int size() {
+			return heap.size();
+		}
+
+		private Set<Long> postIds() {
+			Set<Long> postIds = new HashSet<>(heap.size());
+			heap.forEach(entry -> postIds.add(entry.postId()));
+			return postIds;
+		}
+
+		private record Entry(long postId, double key) {}
+	}
+
+}
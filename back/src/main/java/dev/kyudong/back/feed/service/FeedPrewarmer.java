@@ -0,0 +1,89 @@
+package dev.kyudong.back.feed.service;
+
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.feed.repository.FeedSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인, 토큰 재발급 직후 사용자 피드를 미리 생성합니다.
+ * <p>
+ * 낮은 우선순위의 전용 스레드와 크기가 제한된 큐를 사용하고, 큐가 가득 차면 작업을 버립니다.
+ * 후보 조회와 순위 계산도 이 스레드 풀에서 실행하므로 요청을 처리하는 피드 전용 스레드 풀과 큐를 차지하지 않습니다.
+ * 피드가 이미 있고 soft TTL이 충분히 남아 있다면 생성하지 않습니다.
+ */
+@Slf4j
+@Component
+public class FeedPrewarmer {
+
+	private final FeedGenerator feedGenerator;
+	private final FeedSnapshotRepository feedSnapshotRepository;
+	private final FeedProperties.Prewarm prewarmProperties;
+	private final Counter droppedCounter;
+	private final ThreadPoolExecutor executor;
+
+	public FeedPrewarmer(FeedGenerator feedGenerator, FeedSnapshotRepository feedSnapshotRepository,
+						 FeedProperties feedProperties, MeterRegistry meterRegistry) {
+		this.feedGenerator = feedGenerator;
+		this.feedSnapshotRepository = feedSnapshotRepository;
+		this.prewarmProperties = feedProperties.prewarm();
+		this.droppedCounter = meterRegistry.counter("feed.prewarm.dropped");
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("feed-prewarm-");
+		threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+		threadFactory.setDaemon(true);
+		this.executor = new ThreadPoolExecutor(
+				prewarmProperties.threads(),
+				prewarmProperties.threads(),
+				0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(prewarmProperties.queueCapacity()),
+				threadFactory
+		);
+	}
+
+	/**
+	 * 사용자 피드 미리 생성을 예약합니다, 큐가 가득 찼다면 버립니다
+	 * @param userId	사용자 아이디
+	 */
+	public void prewarm(Long userId) {
+		try {
+			executor.execute(() -> prewarmNow(userId));
+		} catch (RejectedExecutionException e) {
+			droppedCounter.increment();
+		}
+	}
+
+	private void prewarmNow(Long userId) {
+		String feedKey = FeedService.userFeedKey(userId);
+		Optional<FeedSnapshotRepository.CurrentSnapshot> current = feedSnapshotRepository.findCurrent(feedKey);
+		if (current.isPresent() && !current.get().expiresWithin(prewarmProperties.refreshAhead())) {
+			log.debug("피드가 충분히 신선하여 미리 생성하지 않습니다: {}", feedKey);
+			return;
+		}
+
+		// 생성을 기다리지 않아야 같은 스레드 풀에서 실행되는 후보 조회가 스레드를 얻을 수 있습니다
+		feedGenerator.generateForUser(userId, feedKey, executor).whenComplete((result, throwable) -> {
+			if (throwable != null) {
+				log.warn("피드 미리 생성에 실패했습니다: {}", feedKey, throwable);
+			} else {
+				log.debug("피드를 미리 생성했습니다: {}", feedKey);
+			}
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+}
@@ -1,18 +1,29 @@
 package dev.kyudong.back.feed.service;
 
+import com.google.common.hash.Hashing;
+import dev.kyudong.back.feed.api.dto.FeedCursor;
 import dev.kyudong.back.feed.api.dto.PostFeedDto;
 import dev.kyudong.back.feed.api.dto.res.FeedListResDto;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.feed.repository.FeedSeenRepository;
+import dev.kyudong.back.feed.repository.FeedSnapshotRepository;
+import dev.kyudong.back.interaction.domain.TargetType;
+import dev.kyudong.back.interaction.service.InteractionService;
 import dev.kyudong.back.post.application.port.out.web.PostFeedQueryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RList;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -20,85 +31,210 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class FeedService {
 
+	private static final int PAGE_SIZE = 20;
+
 	private final PostFeedQueryPort postFeedQueryPort;
-	private final RedissonClient redissonClient;
 	private final FeedGenerator feedGenerator;
+	private final FeedSnapshotRepository feedSnapshotRepository;
+	private final FeedCardCache feedCardCache;
+	private final FeedContentPreview feedContentPreview;
+	private final FeedProperties feedProperties;
+	private final FeedSeenRepository feedSeenRepository;
+	private final InteractionService interactionService;
+
+	public static String userFeedKey(Long userId) {
+		return "feed:user:" + userId;
+	}
 
-	public FeedListResDto findFeedsWithUser(Long userId, int page) {
-		final String feedKey = "feed:user:" + userId;
-		RList<String> feedCache = redissonClient.getList(feedKey);
-		if (!feedCache.isExists()) {
-			feedGenerator.generateAndCacheFeedForUser(userId, feedKey);
-			List<PostFeedDto> previewPosts = postFeedQueryPort.findPreviewPosts(userId, 21);
-			boolean hasNext = previewPosts.size() == 20;
-			return FeedListResDto.of(hasNext, 1, previewPosts);
-		}
+	public FeedListResDto findFeedsWithUser(Long userId, String cursor) {
+		final String feedKey = userFeedKey(userId);
+		FeedListResDto feeds = findFeeds(feedKey, null, cursor,
+				() -> feedGenerator.generateForUser(userId, feedKey),
+				() -> postFeedQueryPort.findPreviewPosts(userId, PAGE_SIZE));
+		return attachMyInteractions(userId, feeds);
+	}
 
-		return createFeedDetailRes(page, feedCache);
+	/**
+	 * 페이지의 게시글에 사용자가 남긴 상호작용을 한 번에 조회해 붙입니다.
+	 * 조회에 실패해도 피드는 그대로 응답합니다
+	 */
+	private FeedListResDto attachMyInteractions(Long userId, FeedListResDto feeds) {
+		if (feeds.content().isEmpty()) {
+			return feeds;
+		}
+		List<Long> postIds = feeds.content().stream()
+				.map(item -> item.content().postId())
+				.toList();
+		try {
+			return feeds.withMyInteractions(
+					interactionService.findMyInteractions(userId, TargetType.POST, postIds).interactions());
+		} catch (RuntimeException e) {
+			log.warn("피드에 사용자 상호작용을 붙이지 못했습니다: userId={}", userId, e);
+			return feeds;
+		}
 	}
 
-	public FeedListResDto findFeedsWithGuset(String guestId, int page) {
+	public FeedListResDto findFeedsWithGuset(String guestId, String cursor) {
 		if (!StringUtils.hasText(guestId)) {
 			log.error("Guest Id가 없는 요청입니다");
 			return FeedListResDto.empty();
 		}
 
-		final String feedKey = "feed:guest:" + guestId;
-		RList<String> feedCache = redissonClient.getList(feedKey);
-		if (!feedCache.isExists()) {
-			feedGenerator.generateAndCacheFeedForGuest(guestId, feedKey);
-			List<PostFeedDto> previewPosts = postFeedQueryPort.findPreviewPosts(21);
-			boolean hasNext = previewPosts.size() == 20;
-			return FeedListResDto.of(hasNext, 1, previewPosts);
+		// 게스트는 공용 피드 중 하나를 읽고, 게스트별로는 본 게시글 필터만 유지합니다
+		final int variant = guestVariant(guestId);
+		final String feedKey = guestFeedKey(variant);
+		return findFeeds(feedKey, FeedSeenRepository.guestKey(guestId), cursor,
+				() -> feedGenerator.generateForGuest(variant, feedKey),
+				() -> postFeedQueryPort.findPreviewPosts(PAGE_SIZE));
+	}
+
+	/**
+	 * 피드를 조회합니다.
+	 * 최신 스냅샷이 soft TTL을 지났거나 곧 지난다면 그대로 응답하면서 백그라운드에서 다시 생성하고,
+	 * 스냅샷이 한 번도 없었을 때만 생성을 잠시 기다린 뒤 미리보기로 응답합니다
+	 * @param feedKey		피드 키
+	 * @param seenKey		읽는 시점에 거를 본 게시글 필터 키, 생성 시점에 이미 걸렀다면 null
+	 * @param cursor		클라이언트가 전달한 커서
+	 * @param generation	피드 생성 작업
+	 * @param preview		미리보기 게시글 조회
+	 * @return 피드
+	 */
+	private FeedListResDto findFeeds(String feedKey, String seenKey, String cursor,
+									 Supplier<CompletableFuture<Void>> generation,
+									 Supplier<List<PostFeedDto>> preview) {
+		FeedCursor feedCursor = FeedCursor.parse(cursor);
+		if (!feedCursor.isLatest()) {
+			return createFeedDetailRes(feedKey, seenKey, feedCursor);
+		}
+
+		Optional<FeedSnapshotRepository.CurrentSnapshot> current = feedSnapshotRepository.findCurrent(feedKey);
+		if (current.isEmpty()) {
+			if (awaitGeneration(generation.get()) && feedSnapshotRepository.exists(feedKey)) {
+				return createFeedDetailRes(feedKey, seenKey, feedCursor);
+			}
+			return createPreviewRes(preview.get());
 		}
 
-		return createFeedDetailRes(page, feedCache);
+		// soft TTL이 곧 끝나는 피드도 미리 다시 생성해 다음 요청이 오래된 피드를 받지 않게 합니다
+		if (current.get().expiresWithin(feedProperties.prewarm().refreshAhead())) {
+			log.debug("피드가 오래되어 백그라운드에서 다시 생성합니다: {}", feedKey);
+			generation.get();
+		}
+		return createFeedDetailRes(feedKey, seenKey, new FeedCursor(current.get().snapshotId(), feedCursor.offset()));
 	}
 
-	private FeedListResDto createFeedDetailRes(int page, RList<String> feedCache) {
-		int pageSize = 20;
-		int startIndex = page * pageSize;
-		int endIndex = startIndex + pageSize - 1;
+	/**
+	 * 공용 게스트 피드 중 없거나 soft TTL이 곧 끝나는 피드를 미리 다시 생성합니다
+	 */
+	public void refreshGuestFeeds() {
+		Duration refreshAhead = feedProperties.prewarm().refreshAhead();
+		for (int variant = 0; variant < feedProperties.guest().variants(); variant++) {
+			String feedKey = guestFeedKey(variant);
+			boolean stale = feedSnapshotRepository.findCurrent(feedKey)
+					.map(current -> current.expiresWithin(refreshAhead))
+					.orElse(true);
+			if (stale) {
+				feedGenerator.generateForGuest(variant, feedKey);
+			}
+		}
+	}
 
-		Set<Long> postIds = feedCache.range(startIndex, endIndex).stream()
-				.map(Long::valueOf)
-				.collect(Collectors.toSet());
+	private static String guestFeedKey(int variant) {
+		return "feed:guest:variant:" + variant;
+	}
 
-		if (postIds.isEmpty()) {
-			return FeedListResDto.empty();
-		}
+	private int guestVariant(String guestId) {
+		int hash = Hashing.murmur3_32_fixed().hashString(guestId, StandardCharsets.UTF_8).asInt();
+		return Math.floorMod(hash, feedProperties.guest().variants());
+	}
 
-		List<PostFeedDto> response = applyDiversityRules(postFeedQueryPort.findAllByIds(postIds));
-		boolean hasNext = response.size() > (page + 1) + pageSize;
-		Integer nextPage = hasNext ? page + 1 : null;
+	/**
+	 * 피드가 아직 없을 때 최신 게시글 한 페이지로 응답합니다.
+	 * 미리보기는 스냅샷에 속하지 않아 이어서 읽을 위치가 없으므로 마지막 페이지로 응답하고,
+	 * 클라이언트가 다시 요청하면 그 사이 생성된 스냅샷의 처음부터 읽습니다
+	 * @param previewPosts	최신 게시글
+	 * @return 미리보기 응답
+	 */
+	private FeedListResDto createPreviewRes(List<PostFeedDto> previewPosts) {
+		return FeedListResDto.of(false, null, previewPosts.stream().map(feedContentPreview::apply).toList());
+	}
 
-		return FeedListResDto.of(hasNext, nextPage, response);
+	/**
+	 * 진행 중인 피드 생성을 설정된 시간만큼만 기다립니다
+	 * @param generation	피드 생성 작업
+	 * @return 시간 내에 생성이 끝났다면 true
+	 */
+	private boolean awaitGeneration(CompletableFuture<Void> generation) {
+		try {
+			generation.get(feedProperties.generation().maxWait().toMillis(), TimeUnit.MILLISECONDS);
+			return true;
+		} catch (TimeoutException e) {
+			log.debug("피드 생성이 끝나지 않아 미리보기를 응답합니다");
+			return false;
+		} catch (ExecutionException e) {
+			log.warn("피드 생성에 실패하여 미리보기를 응답합니다", e.getCause());
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
 	}
 
 	/**
-	 * 같은 작성자의 글이 중복되지 않게 제거 후 20개의 피드를 반환합니다
-	 * @param postFeedDtos 점수 계산이 된 게시글
-	 * @return 반환될 게시글
+	 * 커서가 가리키는 스냅샷에서 한 페이지를 읽습니다.
+	 * 스냅샷이 만료되었다면 최신 스냅샷의 같은 위치부터 이어서 읽습니다.
+	 * <p>
+	 * 게스트 피드는 여러 게스트가 공유하므로 생성 시점에 게스트별로 본 게시글을 거를 수 없습니다.
+	 * 본 게시글 필터 키가 있다면 스냅샷의 남은 구간을 한 번에 읽어 페이지가 찰 때까지 본 게시글을 건너뛰고,
+	 * 다음 커서는 건너뛴 위치 다음을 가리킵니다. 스냅샷은 하나의 값으로 저장되어 있어 남은 구간을 읽어도 요청은 한 번입니다
+	 * @param feedKey		피드 키
+	 * @param seenKey		본 게시글 필터 키, 없으면 null
+	 * @param feedCursor	읽기 위치
+	 * @return 생성 순서가 유지된 피드
 	 */
-	private List<PostFeedDto> applyDiversityRules(List<PostFeedDto> postFeedDtos) {
-		List<PostFeedDto> finalFeed = new ArrayList<>();
-		Map<Long, Integer> authorCountMap = new HashMap<>();
-		final int MAX_POSTS_PER_AUTHOR = 2;
-
-		for (PostFeedDto dto : postFeedDtos) {
-			if (finalFeed.size() >= 20) {
-				break;
-			}
+	private FeedListResDto createFeedDetailRes(String feedKey, String seenKey, FeedCursor feedCursor) {
+		String snapshotId = feedCursor.isLatest()
+				? feedSnapshotRepository.findCurrentSnapshotId(feedKey).orElse(null)
+				: feedCursor.snapshotId();
+		if (snapshotId == null) {
+			return FeedListResDto.empty();
+		}
+
+		int offset = feedCursor.offset();
+		int fetchSize = seenKey == null ? PAGE_SIZE + 1 : Integer.MAX_VALUE;
+		Optional<long[]> range = feedSnapshotRepository.findRange(feedKey, snapshotId, offset, fetchSize);
+		if (range.isEmpty() && !feedCursor.isLatest()) {
+			log.debug("스냅샷이 만료되어 최신 스냅샷으로 이어서 조회합니다: feedKey={}, snapshotId={}", feedKey, snapshotId);
+			snapshotId = feedSnapshotRepository.findCurrentSnapshotId(feedKey).orElse(null);
+			range = snapshotId == null
+					? Optional.empty()
+					: feedSnapshotRepository.findRange(feedKey, snapshotId, offset, fetchSize);
+		}
 
-			Long authorId = dto.authorId();
+		long[] postIds = range.orElse(new long[0]);
+		if (postIds.length == 0) {
+			return FeedListResDto.empty();
+		}
 
-			int currentCount = authorCountMap.getOrDefault(authorId, 0);
-			if (currentCount < MAX_POSTS_PER_AUTHOR) {
-				finalFeed.add(dto);
-				authorCountMap.put(authorId, currentCount + 1);
+		FeedSeenRepository.SeenFilter seenFilter = seenKey == null ? null : feedSeenRepository.findFilter(seenKey);
+		List<Long> pagePostIds = new ArrayList<>(PAGE_SIZE);
+		int consumed = 0;
+		while (consumed < postIds.length && pagePostIds.size() < PAGE_SIZE) {
+			long postId = postIds[consumed++];
+			if (seenFilter == null || !seenFilter.mightContain(postId)) {
+				pagePostIds.add(postId);
 			}
 		}
-		return finalFeed;
+		boolean hasNext = consumed < postIds.length;
+
+		Map<Long, PostFeedDto> postMap = feedCardCache.findAllByIds(pagePostIds);
+		List<PostFeedDto> orderedPosts = pagePostIds.stream()
+				.map(postMap::get)
+				.filter(Objects::nonNull)
+				.toList();
+
+		String nextCursor = hasNext ? new FeedCursor(snapshotId, offset + consumed).encode() : null;
+		return FeedListResDto.of(hasNext, nextCursor, orderedPosts);
 	}
 
 }
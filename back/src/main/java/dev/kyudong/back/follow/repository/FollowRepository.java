@@ -29,4 +29,28 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 	""")
 	List<Follow> findByFollowingWithFollower(@Param("user") User user);
 
+	@Query("""
+			SELECT COUNT(f)
+			FROM Follow f
+			WHERE f.following.id = :userId
+			AND f.status = 'FOLLOWING'
+	""")
+	long countFollowers(@Param("userId") Long userId);
+
+	@Query("""
+			SELECT f.follower.id
+			FROM Follow f
+			WHERE f.following.id = :userId
+			AND f.status = 'FOLLOWING'
+	""")
+	List<Long> findFollowerIds(@Param("userId") Long userId);
+
+	@Query("""
+			SELECT f.following.id
+			FROM Follow f
+			WHERE f.follower.id = :userId
+			AND f.status = 'FOLLOWING'
+	""")
+	List<Long> findFollowingIds(@Param("userId") Long userId);
+
 }
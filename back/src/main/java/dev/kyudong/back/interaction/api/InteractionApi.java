@@ -2,6 +2,7 @@ package dev.kyudong.back.interaction.api;
 
 import dev.kyudong.back.interaction.api.dto.req.InteractionReqDto;
 import dev.kyudong.back.interaction.api.dto.res.InteractionResDto;
+import dev.kyudong.back.interaction.api.dto.res.MyInteractionsResDto;
 import dev.kyudong.back.interaction.domain.TargetType;
 import dev.kyudong.back.user.security.CustomUserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +20,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 /**
  * Interaction API의 명세를 정의하는 인터페이스입니다.
@@ -91,6 +95,40 @@ public interface InteractionApi {
 			@RequestBody InteractionReqDto request
 	);
 
+	@SuppressWarnings("unused")
+	@Operation(summary = "여러 대상에 대한 내 상호작용 조회", description = "최대 100개 대상에 대해 로그인 사용자가 남긴 상호작용을 한 번에 조회합니다")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "조회 성공, 상호작용하지 않은 대상은 포함되지 않습니다",
+					content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+							schema = @Schema(implementation = MyInteractionsResDto.class),
+							examples = @ExampleObject(value =
+									"""
+									{
+									  "targetType": "POST",
+									  "interactions": {
+										"96": "LIKE",
+										"101": "WOW"
+									  }
+									}
+									"""
+							)
+					)
+			),
+			@ApiResponse(responseCode = "400", description = "조회할 대상이 100개를 넘었습니다",
+					content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+							schema = @Schema(implementation = ProblemDetail.class)
+					)
+			),
+	})
+	ResponseEntity<MyInteractionsResDto> findMyInteractions(
+			@Parameter(hidden = true, description = "로그인 사용자의 정보")
+			@AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+			@Parameter(name = "targetType", description = "조회할 대상의 타입")
+			@PathVariable TargetType targetType,
+			@Parameter(name = "targetIds", description = "조회할 대상의 고유값(Id) 목록")
+			@RequestParam List<Long> targetIds
+	);
+
 	@SuppressWarnings("unused")
 	@Operation(summary = "사용자와 대상의 상호작용 취소", description = "사용자와 대상의 상호작용을 취소(삭제)합니다")
 	@ApiResponses({
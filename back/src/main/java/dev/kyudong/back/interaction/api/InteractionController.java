@@ -2,6 +2,7 @@ package dev.kyudong.back.interaction.api;
 
 import dev.kyudong.back.interaction.api.dto.req.InteractionReqDto;
 import dev.kyudong.back.interaction.api.dto.res.InteractionResDto;
+import dev.kyudong.back.interaction.api.dto.res.MyInteractionsResDto;
 import dev.kyudong.back.interaction.domain.TargetType;
 import dev.kyudong.back.interaction.service.InteractionService;
 import dev.kyudong.back.user.security.CustomUserPrincipal;
@@ -11,6 +12,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/interaction")
@@ -28,6 +31,15 @@ public class InteractionController implements InteractionApi {
 		return ResponseEntity.ok(interactionService.doInteraction(userPrincipal.getId(), targetType, targetId, request));
 	}
 
+	@Override
+	@GetMapping("/{targetType}/me")
+	public ResponseEntity<MyInteractionsResDto> findMyInteractions(
+			@AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+			@PathVariable TargetType targetType,
+			@RequestParam List<Long> targetIds) {
+		return ResponseEntity.ok(interactionService.findMyInteractions(userPrincipal.getId(), targetType, targetIds));
+	}
+
 	@Override
 	@DeleteMapping("/{targetType}/{targetId}")
 	public ResponseEntity<Void> deleteInteraction(
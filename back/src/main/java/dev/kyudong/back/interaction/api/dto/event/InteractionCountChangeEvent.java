@@ -0,0 +1,16 @@
+package dev.kyudong.back.interaction.api.dto.event;
+
+import dev.kyudong.back.interaction.domain.TargetType;
+
+import java.util.Set;
+
+/**
+ * 상호작용 유형별 수가 DB에 반영된 후 캐시 무효화에 사용됩니다
+ * @param targetType	대상 유형
+ * @param targetIds		수가 바뀐 대상 아이디
+ */
+public record InteractionCountChangeEvent(
+		TargetType targetType,
+		Set<Long> targetIds
+) {
+}
@@ -0,0 +1,19 @@
+package dev.kyudong.back.interaction.api.dto.res;
+
+import dev.kyudong.back.interaction.domain.InteractionType;
+import dev.kyudong.back.interaction.domain.TargetType;
+
+import java.util.Map;
+
+/**
+ * @param targetType	대상 유형
+ * @param interactions	상호작용한 대상만 담은 대상 아이디별 상호작용
+ */
+public record MyInteractionsResDto(
+		TargetType targetType,
+		Map<Long, InteractionType> interactions
+) {
+	public static MyInteractionsResDto of(TargetType targetType, Map<Long, InteractionType> interactions) {
+		return new MyInteractionsResDto(targetType, interactions);
+	}
+}
@@ -13,7 +13,15 @@ import java.util.Arrays;
 
 @Entity
 @Getter
-@Table(name = "INTERACTIONS")
+@Table(
+		name = "INTERACTIONS",
+		uniqueConstraints = {
+				@UniqueConstraint(
+						name = "uk_interactions_user_target",
+						columnNames = {"USER_ID", "TARGET_TYPE", "TARGET_ID"}
+				)
+		}
+)
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Interaction {
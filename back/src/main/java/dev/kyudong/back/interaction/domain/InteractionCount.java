@@ -0,0 +1,135 @@
+package dev.kyudong.back.interaction.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 대상별 상호작용 유형 수의 비정규화 값입니다.
+ * 엔티티로는 수정하지 않고 {@link dev.kyudong.back.interaction.service.InteractionCounter}의 일괄 증감 쿼리로만 갱신합니다.
+ * 컬럼 이름은 {@link #columnName(InteractionType)} 규칙을 따라야 합니다
+ */
+@Entity
+@Getter
+@Table(
+		name = "INTERACTION_COUNTS",
+		uniqueConstraints = {
+				@UniqueConstraint(
+						name = "uk_interaction_counts_target",
+						columnNames = {"TARGET_TYPE", "TARGET_ID"}
+				)
+		}
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InteractionCount {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "ID", updatable = false)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "TARGET_TYPE", nullable = false, length = 20, updatable = false)
+	private TargetType targetType;
+
+	@Column(name = "TARGET_ID", nullable = false, updatable = false)
+	private Long targetId;
+
+	@ColumnDefault("0")
+	@Column(name = "LIKE_COUNT", nullable = false, updatable = false)
+	private long likeCount;
+
+	@ColumnDefault("0")
+	@Column(name = "LOVE_COUNT", nullable = false, updatable = false)
+	private long loveCount;
+
+	@ColumnDefault("0")
+	@Column(name = "LAUGH_COUNT", nullable = false, updatable = false)
+	private long laughCount;
+
+	@ColumnDefault("0")
+	@Column(name = "COOL_COUNT", nullable = false, updatable = false)
+	private long coolCount;
+
+	@ColumnDefault("0")
+	@Column(name = "MOVED_COUNT", nullable = false, updatable = false)
+	private long movedCount;
+
+	@ColumnDefault("0")
+	@Column(name = "WOW_COUNT", nullable = false, updatable = false)
+	private long wowCount;
+
+	@ColumnDefault("0")
+	@Column(name = "CUTE_COUNT", nullable = false, updatable = false)
+	private long cuteCount;
+
+	@ColumnDefault("0")
+	@Column(name = "DISLIKE_COUNT", nullable = false, updatable = false)
+	private long dislikeCount;
+
+	@ColumnDefault("0")
+	@Column(name = "SHOCKED_COUNT", nullable = false, updatable = false)
+	private long shockedCount;
+
+	@ColumnDefault("0")
+	@Column(name = "BORED_COUNT", nullable = false, updatable = false)
+	private long boredCount;
+
+	@ColumnDefault("0")
+	@Column(name = "DISGUST_COUNT", nullable = false, updatable = false)
+	private long disgustCount;
+
+	@ColumnDefault("0")
+	@Column(name = "SCARY_COUNT", nullable = false, updatable = false)
+	private long scaryCount;
+
+	@ColumnDefault("0")
+	@Column(name = "ANGRY_COUNT", nullable = false, updatable = false)
+	private long angryCount;
+
+	public static String columnName(InteractionType interactionType) {
+		return interactionType.name() + "_COUNT";
+	}
+
+	/**
+	 * 노드마다 따로 반영된 증감의 순서에 따라 저장된 값이 잠시 음수일 수 있으므로 0 미만은 0으로 봅니다
+	 */
+	public long getCount(InteractionType interactionType) {
+		long count = switch (interactionType) {
+			case LIKE -> likeCount;
+			case LOVE -> loveCount;
+			case LAUGH -> laughCount;
+			case COOL -> coolCount;
+			case MOVED -> movedCount;
+			case WOW -> wowCount;
+			case CUTE -> cuteCount;
+			case DISLIKE -> dislikeCount;
+			case SHOCKED -> shockedCount;
+			case BORED -> boredCount;
+			case DISGUST -> disgustCount;
+			case SCARY -> scaryCount;
+			case ANGRY -> angryCount;
+		};
+		return Math.max(count, 0L);
+	}
+
+	/**
+	 * @return 0보다 큰 유형만 담은 유형별 수
+	 */
+	public Map<InteractionType, Long> toCounts() {
+		Map<InteractionType, Long> counts = new EnumMap<>(InteractionType.class);
+		for (InteractionType interactionType : InteractionType.values()) {
+			long count = getCount(interactionType);
+			if (count > 0) {
+				counts.put(interactionType, count);
+			}
+		}
+		return counts;
+	}
+
+}
@@ -0,0 +1,19 @@
+package dev.kyudong.back.interaction.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 상호작용 상태 설정
+ * @param stateTtl		사용자별 상호작용 상태를 Redis에 유지하는 시간, 마지막 쓰기부터 계산합니다
+ * @param flushSize		한 번에 DB에 쓸 최대 상호작용 수
+ * @param flushInterval	변경된 상호작용을 DB에 쓰는 주기
+ */
+@ConfigurationProperties(prefix = "interaction")
+public record InteractionProperties(
+		Duration stateTtl,
+		int flushSize,
+		Duration flushInterval
+) {
+}
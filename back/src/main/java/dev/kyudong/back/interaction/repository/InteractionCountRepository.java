@@ -0,0 +1,17 @@
+package dev.kyudong.back.interaction.repository;
+
+import dev.kyudong.back.interaction.domain.InteractionCount;
+import dev.kyudong.back.interaction.domain.TargetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface InteractionCountRepository extends JpaRepository<InteractionCount, Long> {
+
+	Optional<InteractionCount> findByTargetTypeAndTargetId(TargetType targetType, Long targetId);
+
+	List<InteractionCount> findAllByTargetTypeAndTargetIdIn(TargetType targetType, Collection<Long> targetIds);
+
+}
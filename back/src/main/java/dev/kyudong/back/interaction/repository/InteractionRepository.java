@@ -1,14 +1,41 @@
 package dev.kyudong.back.interaction.repository;
 
 import dev.kyudong.back.interaction.domain.Interaction;
+import dev.kyudong.back.interaction.domain.InteractionType;
 import dev.kyudong.back.interaction.domain.TargetType;
 import dev.kyudong.back.user.domain.User;
+import jakarta.persistence.Tuple;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface InteractionRepository extends JpaRepository<Interaction, Long> {
 
 	Optional<Interaction> findByUserAndTargetIdAndTargetType(User user, Long targetId, TargetType targetType);
 
+	List<Interaction> findAllByUserIdAndTargetTypeAndTargetIdIn(Long userId, TargetType targetType, Collection<Long> targetIds);
+
+	/**
+	 * 사용자가 작성자별 게시글에 남긴 상호작용을 긍정은 +1, 부정은 -1로 합산합니다
+	 */
+	@Query("""
+		SELECT p.user.id AS authorId,
+			SUM(CASE WHEN i.interactionType IN :positiveTypes THEN 1 ELSE -1 END) AS affinity
+		FROM Interaction i
+		JOIN Post p ON p.id = i.targetId
+		WHERE i.user.id = :userId
+		AND i.targetType = :targetType
+		AND i.modifiedAt >= :since
+		GROUP BY p.user.id
+	""")
+	List<Tuple> findAuthorAffinities(@Param("userId") Long userId,
+									 @Param("targetType") TargetType targetType,
+									 @Param("positiveTypes") List<InteractionType> positiveTypes,
+									 @Param("since") Instant since);
+
 }
@@ -0,0 +1,243 @@
+package dev.kyudong.back.interaction.repository;
+
+import dev.kyudong.back.interaction.domain.InteractionType;
+import dev.kyudong.back.interaction.domain.TargetType;
+import dev.kyudong.back.interaction.properties.InteractionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.*;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 현재 상호작용을 Redis 해시 하나에 보관합니다, 조회와 중복 판단은 이 상태를 기준으로 합니다.
+ * <p>
+ * 해시에는 사용자가 변경한 대상만 담기므로 크기는 만료 시간 동안 변경한 대상 수로 제한됩니다.
+ * 변경할 대상의 필드가 없으면 그 대상만 채우고, 삭제는 필드를 지우지 않고 삭제 표시를 남겨 늦게 도착한 채우기가 삭제된 상호작용을 되살리지 못하게 합니다.
+ * 여러 대상 조회는 해시에 없는 대상을 채우지 않고 읽기만 합니다.
+ * <p>
+ * 변경된 (사용자, 대상)은 변경 후 값과 함께 변경 목록에 모아 두었다가 {@link dev.kyudong.back.interaction.service.InteractionWriter}가 DB에 씁니다.
+ * 변경 목록에는 만료 시간을 두지 않아 Redis의 volatile-lru 정책에서 삭제되지 않고, 캐시인 상태 해시는 삭제될 수 있습니다.
+ * 그래서 해시에 없는 대상은 INTERACTIONS 테이블 위에 아직 쓰지 않은 변경 목록을 덮어 읽습니다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class InteractionStateRepository {
+
+	private static final String STATE_KEY_PREFIX = "interaction:user:";
+	private static final String REMOVED = "NONE";
+	private static final String DIRTY_KEY = "interaction:dirty";
+	private static final String FLUSHING_KEY = "interaction:dirty:flushing";
+	private static final String RECENT_TARGETS_KEY = "interaction:recent_targets";
+
+	/**
+	 * 최근 변경된 대상으로 보는 기간, 노드 메모리의 유형별 수 증감이 DB에 반영되는 데 걸리는 시간보다 길게 잡습니다
+	 */
+	private static final Duration RECENT_WINDOW = Duration.ofMinutes(5);
+
+	private final RedissonClient redissonClient;
+	private final InteractionRepository interactionRepository;
+	private final InteractionProperties interactionProperties;
+
+	/**
+	 * 현재 상호작용을 변경합니다
+	 * @return 변경 전 상호작용
+	 */
+	public Optional<InteractionType> put(Long userId, TargetType targetType, Long targetId, InteractionType interactionType) {
+		ensureLoaded(userId, targetType, targetId);
+
+		RBatch batch = atomicBatch();
+		RMapAsync<String, String> state = batch.getMap(stateKey(userId), StringCodec.INSTANCE);
+		RFuture<String> previous = state.putAsync(field(targetType, targetId), interactionType.name());
+		state.expireAsync(interactionProperties.stateTtl());
+		batch.<String, String>getMap(DIRTY_KEY, StringCodec.INSTANCE)
+				.fastPutAsync(new StateKey(userId, targetType, targetId).encode(), interactionType.name());
+		markRecent(batch, targetType, targetId);
+		batch.execute();
+		return toType(previous.toCompletableFuture().join());
+	}
+
+	/**
+	 * 현재 상호작용을 삭제합니다
+	 * @return 삭제 전 상호작용, 없었다면 빈 값
+	 */
+	public Optional<InteractionType> remove(Long userId, TargetType targetType, Long targetId) {
+		ensureLoaded(userId, targetType, targetId);
+
+		RBatch batch = atomicBatch();
+		RMapAsync<String, String> state = batch.getMap(stateKey(userId), StringCodec.INSTANCE);
+		RFuture<String> previous = state.putAsync(field(targetType, targetId), REMOVED);
+		state.expireAsync(interactionProperties.stateTtl());
+		batch.<String, String>getMap(DIRTY_KEY, StringCodec.INSTANCE)
+				.fastPutAsync(new StateKey(userId, targetType, targetId).encode(), REMOVED);
+		markRecent(batch, targetType, targetId);
+		batch.execute();
+		return toType(previous.toCompletableFuture().join());
+	}
+
+	/**
+	 * 여러 대상에 대한 사용자의 현재 상호작용을 한 번에 조회합니다
+	 * @return 상호작용한 대상만 담은 대상 아이디별 상호작용
+	 */
+	public Map<Long, InteractionType> findAll(Long userId, TargetType targetType, Collection<Long> targetIds) {
+		if (targetIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<String, Long> fields = new HashMap<>(targetIds.size());
+		for (Long targetId : targetIds) {
+			fields.put(field(targetType, targetId), targetId);
+		}
+		Map<String, String> cached = redissonClient.<String, String>getMap(stateKey(userId), StringCodec.INSTANCE)
+				.getAll(fields.keySet());
+
+		Map<Long, InteractionType> interactions = new HashMap<>();
+		List<Long> missing = new ArrayList<>();
+		fields.forEach((field, targetId) -> {
+			String value = cached.get(field);
+			if (value == null) {
+				missing.add(targetId);
+				return;
+			}
+			toType(value).ifPresent(type -> interactions.put(targetId, type));
+		});
+		if (!missing.isEmpty()) {
+			readThrough(userId, targetType, missing)
+					.forEach((targetId, value) -> toType(value).ifPresent(type -> interactions.put(targetId, type)));
+		}
+		return interactions;
+	}
+
+	/**
+	 * 변경 목록을 처리 중 상태로 옮기고 변경 후 값과 함께 조회합니다.
+	 * 이전에 쓰지 못한 처리 중 목록이 남아 있다면 그것을 먼저 반환합니다
+	 * @return 변경된 (사용자, 대상)별 현재 상호작용, 삭제되었다면 빈 값
+	 */
+	public Map<StateKey, Optional<InteractionType>> claimDirty() {
+		RMap<String, String> flushing = redissonClient.getMap(FLUSHING_KEY, StringCodec.INSTANCE);
+		if (!flushing.isExists()) {
+			RMap<String, String> dirty = redissonClient.getMap(DIRTY_KEY, StringCodec.INSTANCE);
+			if (!dirty.isExists()) {
+				return Map.of();
+			}
+			dirty.rename(FLUSHING_KEY);
+		}
+
+		Map<StateKey, Optional<InteractionType>> states = new LinkedHashMap<>();
+		flushing.readAllMap().forEach((key, value) -> states.put(StateKey.decode(key), toType(value)));
+		return states;
+	}
+
+	public void completeDirty() {
+		redissonClient.getMap(FLUSHING_KEY, StringCodec.INSTANCE).delete();
+	}
+
+	/**
+	 * 최근 상호작용이 변경된 대상을 조회합니다, 이 대상의 유형별 수 증감은 아직 노드 메모리에 남아 있을 수 있습니다
+	 * @return {@code 대상유형:대상아이디} 형식의 대상 목록
+	 */
+	public Collection<String> findRecentTargets() {
+		return redissonClient.<String>getScoredSortedSet(RECENT_TARGETS_KEY, StringCodec.INSTANCE)
+				.valueRange(recentSince(), true, Double.POSITIVE_INFINITY, true);
+	}
+
+	/**
+	 * 최근으로 보는 기간이 지난 대상을 지웁니다
+	 */
+	public void trimRecentTargets() {
+		redissonClient.getScoredSortedSet(RECENT_TARGETS_KEY, StringCodec.INSTANCE)
+				.removeRangeByScore(Double.NEGATIVE_INFINITY, true, recentSince(), false);
+	}
+
+	/**
+	 * 변경할 대상의 필드가 없다면 채웁니다.
+	 * 비어 있는 필드만 채우므로 동시에 들어온 변경이나 삭제 표시를 덮어쓰지 않습니다
+	 */
+	private void ensureLoaded(Long userId, TargetType targetType, Long targetId) {
+		String field = field(targetType, targetId);
+		if (redissonClient.getMap(stateKey(userId), StringCodec.INSTANCE).containsKey(field)) {
+			return;
+		}
+
+		String value = readThrough(userId, targetType, List.of(targetId)).get(targetId);
+		RBatch batch = atomicBatch();
+		RMapAsync<String, String> state = batch.getMap(stateKey(userId), StringCodec.INSTANCE);
+		state.fastPutIfAbsentAsync(field, value);
+		state.expireAsync(interactionProperties.stateTtl());
+		batch.execute();
+	}
+
+	/**
+	 * 대상의 현재 상호작용을 INTERACTIONS 테이블과 아직 쓰지 않은 변경 목록에서 읽습니다.
+	 * 변경 목록을 먼저 읽어야 테이블을 읽는 사이에 쓰기가 끝나도 그 변경을 놓치지 않습니다
+	 * @return 대상 아이디별 상호작용, 없다면 삭제 표시
+	 */
+	private Map<Long, String> readThrough(Long userId, TargetType targetType, Collection<Long> targetIds) {
+		Set<String> pendingKeys = new HashSet<>(targetIds.size());
+		targetIds.forEach(targetId -> pendingKeys.add(new StateKey(userId, targetType, targetId).encode()));
+		RBatch batch = redissonClient.createBatch();
+		RFuture<Map<String, String>> flushing = batch.<String, String>getMap(FLUSHING_KEY, StringCodec.INSTANCE)
+				.getAllAsync(pendingKeys);
+		RFuture<Map<String, String>> dirty = batch.<String, String>getMap(DIRTY_KEY, StringCodec.INSTANCE)
+				.getAllAsync(pendingKeys);
+		batch.execute();
+
+		Map<Long, String> values = new HashMap<>(targetIds.size());
+		targetIds.forEach(targetId -> values.put(targetId, REMOVED));
+		interactionRepository.findAllByUserIdAndTargetTypeAndTargetIdIn(userId, targetType, targetIds)
+				.forEach(interaction -> values.put(interaction.getTargetId(), interaction.getInteractionType().name()));
+		// 처리 중 목록보다 변경 목록이 최신입니다
+		flushing.toCompletableFuture().join().forEach((key, value) -> values.put(StateKey.decode(key).targetId(), value));
+		dirty.toCompletableFuture().join().forEach((key, value) -> values.put(StateKey.decode(key).targetId(), value));
+		return values;
+	}
+
+	private static void markRecent(RBatch batch, TargetType targetType, Long targetId) {
+		batch.<String>getScoredSortedSet(RECENT_TARGETS_KEY, StringCodec.INSTANCE)
+				.addAsync(System.currentTimeMillis(), field(targetType, targetId));
+	}
+
+	private static double recentSince() {
+		return System.currentTimeMillis() - RECENT_WINDOW.toMillis();
+	}
+
+	private RBatch atomicBatch() {
+		return redissonClient.createBatch(BatchOptions.defaults().executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+	}
+
+	private static Optional<InteractionType> toType(String value) {
+		if (value == null || REMOVED.equals(value)) {
+			return Optional.empty();
+		}
+		return Optional.of(InteractionType.valueOf(value));
+	}
+
+	private static String stateKey(Long userId) {
+		return STATE_KEY_PREFIX + userId;
+	}
+
+	private static String field(TargetType targetType, Long targetId) {
+		return targetType.name() + ":" + targetId;
+	}
+
+	/**
+	 * 변경 목록에 담기는 (사용자, 대상) 식별자입니다
+	 */
+	public record StateKey(Long userId, TargetType targetType, Long targetId) {
+
+		private String encode() {
+			return userId + ":" + targetType.name() + ":" + targetId;
+		}
+
+		private static StateKey decode(String value) {
+			String[] parts = value.split(":");
+			return new StateKey(Long.valueOf(parts[0]), TargetType.valueOf(parts[1]), Long.valueOf(parts[2]));
+		}
+
+	}
+
+}
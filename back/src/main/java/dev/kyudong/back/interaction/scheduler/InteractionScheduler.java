@@ -0,0 +1,37 @@
+package dev.kyudong.back.interaction.scheduler;
+
+import dev.kyudong.back.interaction.service.InteractionCounter;
+import dev.kyudong.back.interaction.service.InteractionWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InteractionScheduler {
+
+	private final InteractionWriter interactionWriter;
+	private final InteractionCounter interactionCounter;
+
+	@Scheduled(fixedDelayString = "${interaction.flush-interval}")
+	public void flushInteractions() {
+		interactionWriter.flush();
+	}
+
+	@Scheduled(fixedDelayString = "${interaction.flush-interval}")
+	public void flushInteractionCounts() {
+		interactionCounter.flush();
+	}
+
+	@Scheduled(cron = "0 45 4 * * *")
+	public void reconcileInteractionCounts() {
+		log.info("상호작용 유형별 수 보정을 시작합니다");
+
+		int updated = interactionCounter.reconcile();
+
+		log.info("상호작용 유형별 수 보정이 완료되었습니다: updated={}", updated);
+	}
+
+}
@@ -0,0 +1,205 @@
+package dev.kyudong.back.interaction.service;
+
+import dev.kyudong.back.interaction.api.dto.event.InteractionCountChangeEvent;
+import dev.kyudong.back.interaction.domain.InteractionCount;
+import dev.kyudong.back.interaction.domain.InteractionType;
+import dev.kyudong.back.interaction.domain.TargetType;
+import dev.kyudong.back.interaction.properties.InteractionProperties;
+import dev.kyudong.back.interaction.repository.InteractionCountRepository;
+import dev.kyudong.back.interaction.repository.InteractionStateRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 대상별 상호작용 유형 수의 증감을 노드 메모리에 모았다가 INTERACTION_COUNTS에 일괄 반영합니다.
+ * <p>
+ * 증감은 더하기로만 반영되어 순서와 무관하므로 노드마다 따로 반영해도 결과가 같습니다.
+ * 반영 순서에 따라 저장된 값이 잠시 음수가 될 수 있지만 0으로 자르지 않고, 조회할 때 {@link InteractionCount#getCount}가 0 미만을 0으로 봅니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InteractionCounter {
+
+	private static final InteractionType[] TYPES = InteractionType.values();
+
+	private static final String UPSERT_PREFIX;
+	private static final String UPSERT_VALUES;
+	private static final String UPSERT_SUFFIX;
+	private static final String RECONCILE_SQL;
+	private static final String RESET_ORPHANS_SQL;
+
+	static {
+		List<String> columns = Arrays.stream(TYPES).map(InteractionCount::columnName).toList();
+		UPSERT_PREFIX = "INSERT INTO interaction_counts (target_type, target_id, " + String.join(", ", columns) + ") VALUES ";
+		UPSERT_VALUES = "(?, ?" + ", ?".repeat(TYPES.length) + ")";
+		UPSERT_SUFFIX = " ON CONFLICT (target_type, target_id) DO UPDATE SET " + columns.stream()
+				.map(column -> column + " = interaction_counts." + column + " + EXCLUDED." + column)
+				.collect(Collectors.joining(", "));
+
+		RECONCILE_SQL = "INSERT INTO interaction_counts (target_type, target_id, " + String.join(", ", columns) + ")"
+				+ " SELECT target_type, target_id, " + Arrays.stream(TYPES)
+						.map(type -> "COUNT(*) FILTER (WHERE interaction_type = '" + type.name() + "')")
+						.collect(Collectors.joining(", "))
+				+ " FROM interactions WHERE NOT (target_type || ':' || target_id = ANY (?))"
+				+ " GROUP BY target_type, target_id"
+				+ " ON CONFLICT (target_type, target_id) DO UPDATE SET " + columns.stream()
+						.map(column -> column + " = EXCLUDED." + column)
+						.collect(Collectors.joining(", "));
+		RESET_ORPHANS_SQL = "UPDATE interaction_counts c SET " + columns.stream()
+				.map(column -> column + " = 0")
+				.collect(Collectors.joining(", "))
+				+ " WHERE NOT EXISTS (SELECT 1 FROM interactions i"
+				+ " WHERE i.target_type = c.target_type AND i.target_id = c.target_id)"
+				+ " AND NOT (c.target_type || ':' || c.target_id = ANY (?))";
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final InteractionWriter interactionWriter;
+	private final InteractionStateRepository interactionStateRepository;
+	private final InteractionCountRepository interactionCountRepository;
+	private final InteractionProperties interactionProperties;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	/**
+	 * 대상별 증감은 항상 {@link ConcurrentHashMap#compute} 안에서 바꿉니다.
+	 * 같은 대상의 갱신과 꺼내기가 버킷 잠금으로 직렬화되므로, 반영할 때 꺼낸 증감에는 더 이상 더해지지 않습니다
+	 */
+	private final ConcurrentHashMap<CountKey, long[]> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * 대상의 상호작용이 바뀐 만큼 유형별 수를 증감합니다
+	 * @param removed	이전 상호작용, 없었다면 null
+	 * @param added		새 상호작용, 삭제라면 null
+	 */
+	public void change(TargetType targetType, Long targetId, InteractionType removed, InteractionType added) {
+		if (removed == added) {
+			return;
+		}
+		pending.compute(new CountKey(targetType, targetId), (key, delta) -> {
+			long[] counts = delta == null ? new long[TYPES.length] : delta;
+			if (removed != null) {
+				counts[removed.ordinal()]--;
+			}
+			if (added != null) {
+				counts[added.ordinal()]++;
+			}
+			return counts;
+		});
+	}
+
+	public void flush() {
+		Map<CountKey, long[]> deltas = new HashMap<>();
+		for (CountKey key : pending.keySet()) {
+			long[] delta = pending.remove(key);
+			if (delta != null && Arrays.stream(delta).anyMatch(value -> value != 0)) {
+				deltas.put(key, delta);
+			}
+		}
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		List<Map.Entry<CountKey, long[]>> entries = new ArrayList<>(deltas.entrySet());
+		Set<CountKey> flushed = new HashSet<>();
+		int flushSize = interactionProperties.flushSize();
+		for (int from = 0; from < entries.size(); from += flushSize) {
+			List<Map.Entry<CountKey, long[]>> chunk = entries.subList(from, Math.min(from + flushSize, entries.size()));
+			try {
+				upsert(chunk);
+				chunk.forEach(entry -> flushed.add(entry.getKey()));
+			} catch (DataAccessException e) {
+				// 반영하지 못한 증감은 다음 주기에 다시 시도합니다
+				log.warn("상호작용 수 반영에 실패했습니다: size={}", chunk.size(), e);
+				chunk.forEach(entry -> restore(entry.getKey(), entry.getValue()));
+			}
+		}
+
+		flushed.stream()
+				.collect(Collectors.groupingBy(CountKey::targetType, Collectors.mapping(CountKey::targetId, Collectors.toSet())))
+				.forEach((targetType, targetIds) ->
+						applicationEventPublisher.publishEvent(new InteractionCountChangeEvent(targetType, targetIds)));
+	}
+
+	/**
+	 * 대상의 유형별 수를 조회합니다, 아직 반영되지 않은 노드 메모리의 증감은 포함하지 않습니다
+	 * @return 0보다 큰 유형만 담은 유형별 수
+	 */
+	@Transactional(readOnly = true)
+	public Map<InteractionType, Long> findCounts(TargetType targetType, Long targetId) {
+		return interactionCountRepository.findByTargetTypeAndTargetId(targetType, targetId)
+				.map(InteractionCount::toCounts)
+				.orElse(Map.of());
+	}
+
+	/**
+	 * INTERACTIONS 테이블로 유형별 수를 다시 계산합니다, 처음 실행하면 기존 상호작용을 채웁니다.
+	 * <p>
+	 * 쓰기를 멈추고 남은 변경을 모두 테이블에 쓴 뒤 계산하므로 계산하는 동안 테이블과 변경 목록이 어긋나지 않습니다.
+	 * 최근 변경된 대상은 증감이 아직 다른 노드의 메모리에 남아 있을 수 있어 이번 보정에서 제외합니다,
+	 * 그 증감이 보정된 값 위에 다시 더해지면 두 번 집계되기 때문입니다
+	 * @return 다시 계산된 대상 수
+	 */
+	public int reconcile() {
+		flush();
+		return interactionWriter.drainAndRun(() -> transactionTemplate.execute(status -> {
+			String[] recentTargets = interactionStateRepository.findRecentTargets().toArray(String[]::new);
+			int updated = jdbcTemplate.update(RECONCILE_SQL, (Object) recentTargets);
+			jdbcTemplate.update(RESET_ORPHANS_SQL, (Object) recentTargets);
+			log.debug("최근 변경된 대상을 제외하고 보정합니다: excluded={}", recentTargets.length);
+			return updated;
+		}));
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	private void upsert(List<Map.Entry<CountKey, long[]>> chunk) {
+		// 처음 생기는 행도 증감이 그대로 들어가고, 음수는 조회할 때 0으로 봅니다
+		StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+		List<Object> args = new ArrayList<>(chunk.size() * (TYPES.length + 2));
+		for (int i = 0; i < chunk.size(); i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(UPSERT_VALUES);
+			CountKey key = chunk.get(i).getKey();
+			args.add(key.targetType().name());
+			args.add(key.targetId());
+			for (long delta : chunk.get(i).getValue()) {
+				args.add(delta);
+			}
+		}
+		sql.append(UPSERT_SUFFIX);
+		jdbcTemplate.update(sql.toString(), args.toArray());
+	}
+
+	private void restore(CountKey key, long[] delta) {
+		pending.compute(key, (k, current) -> {
+			if (current == null) {
+				return delta;
+			}
+			for (int i = 0; i < delta.length; i++) {
+				current[i] += delta[i];
+			}
+			return current;
+		});
+	}
+
+	private record CountKey(TargetType targetType, Long targetId) {}
+
+}
@@ -1,92 +1,100 @@
 package dev.kyudong.back.interaction.service;
 
+import dev.kyudong.back.common.exception.InvalidInputException;
 import dev.kyudong.back.interaction.api.dto.event.InteractionScoreEvent;
 import dev.kyudong.back.interaction.api.dto.req.InteractionReqDto;
 import dev.kyudong.back.interaction.api.dto.res.InteractionResDto;
-import dev.kyudong.back.interaction.domain.Interaction;
+import dev.kyudong.back.interaction.api.dto.res.MyInteractionsResDto;
+import dev.kyudong.back.interaction.domain.InteractionType;
 import dev.kyudong.back.interaction.domain.TargetType;
 import dev.kyudong.back.interaction.exception.InteractionNotFoundException;
 import dev.kyudong.back.interaction.exception.InteractionTargetNotFoundException;
-import dev.kyudong.back.interaction.repository.InteractionRepository;
+import dev.kyudong.back.interaction.repository.InteractionStateRepository;
 import dev.kyudong.back.interaction.strategy.InteractionStrategy;
-import dev.kyudong.back.user.domain.User;
-import dev.kyudong.back.user.service.UserReaderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+/**
+ * 상호작용의 현재 상태는 {@link InteractionStateRepository}가 보관하고,
+ * INTERACTIONS 테이블은 {@link InteractionWriter}가 뒤따라 씁니다
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class InteractionService {
 
-	private final InteractionRepository interactionRepository;
-	private final UserReaderService userReaderService;
+	public static final int MAX_LOOKUP_SIZE = 100;
+
+	private final InteractionStateRepository interactionStateRepository;
+	private final InteractionCounter interactionCounter;
 	private final List<InteractionStrategy> strategies;
 	private final ApplicationEventPublisher applicationEventPublisher;
 
-	@Transactional
+	@Transactional(readOnly = true)
 	public InteractionResDto doInteraction(final Long userId, TargetType targetType, final Long targetId, InteractionReqDto request) {
 		log.debug("상호작용을 시작합니다: userId={}, targetType={}, targetId={}", userId, targetType.name(), targetId);
 
 		InteractionStrategy interactionStrategy = findInteractionStrategy(targetType);
 		interactionStrategy.existsTarget(targetId);
 
-		double score;
-		Interaction interaction;
-		User user = userReaderService.getUserReference(userId);
-		Optional<Interaction> existingInteractionOpt = interactionRepository.findByUserAndTargetIdAndTargetType(user, targetId, targetType);
-		if (existingInteractionOpt.isPresent()) {
-			interaction = existingInteractionOpt.get();
-
-			double oldScore = interaction.getInteractionType().getInteractionScore();
-			double newScore = request.interactionType().getInteractionScore();
-
-			score = newScore - oldScore;
-			interaction.updateInteractionType(request.interactionType());
-		} else {
-			score = request.interactionType().getInteractionScore();
-			interaction = Interaction.builder()
-					.user(user)
-					.targetType(targetType)
-					.targetId(targetId)
-					.interactionType(request.interactionType())
-					.build();
-			interactionRepository.save(interaction);
-		}
+		InteractionType interactionType = request.interactionType();
+		InteractionType previousType = interactionStateRepository.put(userId, targetType, targetId, interactionType).orElse(null);
+		interactionCounter.change(targetType, targetId, previousType, interactionType);
+		double oldScore = previousType == null ? 0.0D : previousType.getInteractionScore();
+		double score = interactionType.getInteractionScore() - oldScore;
 
 		// 점수계산
-		InteractionScoreEvent scoreEvent = new InteractionScoreEvent(targetId, score);
-		applicationEventPublisher.publishEvent(scoreEvent);
+		if (score != 0.0D) {
+			InteractionScoreEvent scoreEvent = new InteractionScoreEvent(targetId, score);
+			applicationEventPublisher.publishEvent(scoreEvent);
+		}
 
-		log.debug("상호작용이 완료되었습니다: userId={}, targetType={}, targetId={}, interactionType={}", userId, targetType.name(), targetId, request.interactionType());
-		return InteractionResDto.from(interaction);
+		log.debug("상호작용이 완료되었습니다: userId={}, targetType={}, targetId={}, interactionType={}", userId, targetType.name(), targetId, interactionType);
+		return InteractionResDto.of(userId, targetType, targetId, interactionType);
 	}
 
-	@Transactional
+	@Transactional(readOnly = true)
 	public void deleteInteraction(final Long userId, TargetType targetType, final Long targetId) {
 		log.debug("상호작용 취소를 시작합니다: userId={}, targetType={}, targetId={}", userId, targetType.name(), targetId);
 
 		InteractionStrategy interactionStrategy = findInteractionStrategy(targetType);
 		interactionStrategy.existsTarget(targetId);
 
-		User user = userReaderService.getUserReference(userId);
-		Interaction interaction = interactionRepository.findByUserAndTargetIdAndTargetType(user, targetId, targetType)
+		InteractionType interactionType = interactionStateRepository.remove(userId, targetType, targetId)
 				.orElseThrow(() -> {
 					log.warn("상호작용한 기록이 없습니다: userId={}, targetType={}, targetId={}", userId, targetType.name(), targetId);
-					return new InteractionNotFoundException(user.getId(), targetId);
+					return new InteractionNotFoundException(userId, targetId);
 				});
+		interactionCounter.change(targetType, targetId, interactionType, null);
 
-		interactionRepository.delete(interaction);
+		// 취소한 상호작용의 점수를 되돌립니다
+		InteractionScoreEvent scoreEvent = new InteractionScoreEvent(targetId, -interactionType.getInteractionScore());
+		applicationEventPublisher.publishEvent(scoreEvent);
 
 		log.debug("상호작용 삭제가 완료되었습니다: userId={}, targetType={}, targetId={}", userId, targetType.name(), targetId);
 	}
 
+	/**
+	 * 여러 대상에 대한 사용자의 상호작용을 한 번에 조회합니다
+	 * @param targetIds	대상 아이디, 최대 {@value #MAX_LOOKUP_SIZE}개
+	 */
+	public MyInteractionsResDto findMyInteractions(final Long userId, TargetType targetType, List<Long> targetIds) {
+		if (targetIds.size() > MAX_LOOKUP_SIZE) {
+			log.warn("조회할 대상이 너무 많습니다: userId={}, size={}", userId, targetIds.size());
+			throw new InvalidInputException("targetIds size must be " + MAX_LOOKUP_SIZE + " or less");
+		}
+
+		Map<Long, InteractionType> interactions = interactionStateRepository.findAll(userId, targetType, new HashSet<>(targetIds));
+		return MyInteractionsResDto.of(targetType, interactions);
+	}
+
 	private InteractionStrategy findInteractionStrategy(TargetType targetType) {
 		return strategies.stream()
 				.filter(s -> s.supports(targetType))
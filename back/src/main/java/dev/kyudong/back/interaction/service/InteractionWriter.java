@@ -0,0 +1,134 @@
+package dev.kyudong.back.interaction.service;
+
+import dev.kyudong.back.interaction.domain.InteractionType;
+import dev.kyudong.back.interaction.properties.InteractionProperties;
+import dev.kyudong.back.interaction.repository.InteractionStateRepository;
+import dev.kyudong.back.interaction.repository.InteractionStateRepository.StateKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis에서 변경된 상호작용을 INTERACTIONS 테이블에 씁니다.
+ * 현재 상태를 그대로 upsert 하거나 삭제하므로 같은 목록을 다시 써도 결과가 같습니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InteractionWriter {
+
+	private static final String LOCK_KEY = "interaction:dirty:lock";
+	private static final Duration LOCK_LEASE = Duration.ofMinutes(1);
+
+	private static final String UPSERT_PREFIX = "INSERT INTO interactions"
+			+ " (user_id, target_type, target_id, interaction_type, created_at, modified_at) VALUES ";
+	private static final String UPSERT_VALUES = "(?, ?, ?, ?, ?, ?)";
+	private static final String UPSERT_SUFFIX = " ON CONFLICT (user_id, target_type, target_id) DO UPDATE"
+			+ " SET interaction_type = EXCLUDED.interaction_type, modified_at = EXCLUDED.modified_at"
+			+ " WHERE interactions.interaction_type <> EXCLUDED.interaction_type";
+	private static final String DELETE_SQL = "DELETE FROM interactions WHERE user_id = ? AND target_type = ? AND target_id = ?";
+
+	private final InteractionStateRepository interactionStateRepository;
+	private final InteractionProperties interactionProperties;
+	private final JdbcTemplate jdbcTemplate;
+	private final RedissonClient redissonClient;
+
+	public void flush() {
+		RLock lock = redissonClient.getLock(LOCK_KEY);
+		try {
+			if (!lock.tryLock(0, LOCK_LEASE.toMillis(), TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		try {
+			writeDirty();
+			interactionStateRepository.trimRecentTargets();
+		} catch (Exception e) {
+			// 처리 중 목록은 남겨 두고 다음 주기에 다시 씁니다
+			log.error("상호작용 쓰기 중 오류가 발생했습니다", e);
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 쓰기를 멈춘 채 남아 있는 변경을 모두 DB에 쓰고 작업을 실행합니다.
+	 * 작업이 끝날 때까지 다른 노드도 변경을 쓰지 못하므로, 작업은 그동안 INTERACTIONS 테이블이 바뀌지 않는다고 볼 수 있습니다
+	 */
+	public <T> T drainAndRun(Supplier<T> task) {
+		RLock lock = redissonClient.getLock(LOCK_KEY);
+		lock.lock();
+		try {
+			// 이전에 쓰지 못한 처리 중 목록과 현재 변경 목록을 차례로 씁니다
+			writeDirty();
+			writeDirty();
+			return task.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void writeDirty() {
+		Map<StateKey, Optional<InteractionType>> dirty = interactionStateRepository.claimDirty();
+		if (dirty.isEmpty()) {
+			return;
+		}
+
+		int flushSize = interactionProperties.flushSize();
+		Map<StateKey, Optional<InteractionType>> chunk = new LinkedHashMap<>(flushSize);
+		for (Map.Entry<StateKey, Optional<InteractionType>> entry : dirty.entrySet()) {
+			chunk.put(entry.getKey(), entry.getValue());
+			if (chunk.size() == flushSize) {
+				write(chunk);
+				chunk.clear();
+			}
+		}
+		if (!chunk.isEmpty()) {
+			write(chunk);
+		}
+		interactionStateRepository.completeDirty();
+		log.debug("변경된 상호작용을 DB에 썼습니다: size={}", dirty.size());
+	}
+
+	private void write(Map<StateKey, Optional<InteractionType>> states) {
+		Timestamp now = Timestamp.from(Instant.now());
+		StringBuilder upsertSql = new StringBuilder(UPSERT_PREFIX);
+		List<Object> upsertArgs = new ArrayList<>();
+		List<Object[]> deleteArgs = new ArrayList<>();
+		states.forEach((key, state) -> {
+			if (state.isEmpty()) {
+				deleteArgs.add(new Object[]{key.userId(), key.targetType().name(), key.targetId()});
+				return;
+			}
+			if (!upsertArgs.isEmpty()) {
+				upsertSql.append(", ");
+			}
+			upsertSql.append(UPSERT_VALUES);
+			upsertArgs.addAll(List.of(key.userId(), key.targetType().name(), key.targetId(), state.get().name(), now, now));
+		});
+
+		if (!upsertArgs.isEmpty()) {
+			jdbcTemplate.update(upsertSql.append(UPSERT_SUFFIX).toString(), upsertArgs.toArray());
+		}
+		if (!deleteArgs.isEmpty()) {
+			jdbcTemplate.batchUpdate(DELETE_SQL, deleteArgs);
+		}
+	}
+
+}
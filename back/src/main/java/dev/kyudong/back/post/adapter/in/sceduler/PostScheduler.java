@@ -1,25 +1,53 @@
 package dev.kyudong.back.post.adapter.in.sceduler;
 
+import dev.kyudong.back.post.application.port.in.event.PostEventUsecase;
+import dev.kyudong.back.post.application.port.in.event.PostViewEventUsecase;
 import dev.kyudong.back.post.application.port.in.web.PostUsecase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PostScheduler {
 
 	private final PostUsecase postUsecase;
+	private final PostViewEventUsecase postViewEventUsecase;
+	private final PostEventUsecase postEventUsecase;
+
+	@Scheduled(cron = "0 30 4 * * *")
+	public void reconcileCommentCounts() {
+		log.info("게시글 댓글 수 보정을 시작합니다");
 
-	@Scheduled(cron = "0 0 */3 * * *")
-	public void refreshRandomOldPost() {
-		log.info("오래된 게시글 목록을 랜덤으로 생성합니다");
+		// 모아 둔 댓글 수 증감을 먼저 반영해 보정 후에 한 번 더 더해지지 않게 합니다
+		postEventUsecase.flushScoreDeltas();
+		postUsecase.reconcileCommentCounts();
 
-		postUsecase.refreshRandomOldPost();
+		log.info("게시글 댓글 수 보정이 완료되었습니다");
+	}
+
+	@Scheduled(cron = "0 */10 * * * *")
+	public void refreshHotScores() {
+		postUsecase.refreshHotScores();
+	}
+
+	@Scheduled(fixedDelayString = "${post.view.flush-interval}")
+	public void flushViewRecords() {
+		postViewEventUsecase.flushViewRecords();
+	}
+
+	@Scheduled(fixedDelayString = "${post.score.flush-interval}")
+	public void flushScoreDeltas() {
+		postEventUsecase.flushScoreDeltas();
+	}
 
-		log.info("오래된 게시글 목록을 랜덤으로 생성이 완료되었습니다");
+	@Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
+	public void flushViewCounts() {
+		postViewEventUsecase.flushViewCounts();
 	}
 
 }
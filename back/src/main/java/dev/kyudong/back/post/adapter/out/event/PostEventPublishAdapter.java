@@ -1,6 +1,8 @@
 package dev.kyudong.back.post.adapter.out.event;
 
 import dev.kyudong.back.post.application.port.out.event.PostEventPublishPort;
+import dev.kyudong.back.post.domain.dto.event.PostChangeFeedEvent;
+import dev.kyudong.back.post.domain.dto.event.PostCommentCountEvent;
 import dev.kyudong.back.post.domain.dto.event.PostCreateFeedEvent;
 import dev.kyudong.back.post.domain.dto.event.PostCreateFileEvent;
 import dev.kyudong.back.post.domain.dto.event.PostCreateNotification;
@@ -55,4 +57,16 @@ public class PostEventPublishAdapter implements PostEventPublishPort {
 		applicationEventPublisher.publishEvent(notificationEvent);
 	}
 
+	@Override
+	public void postChangeEventPublish(Long postId) {
+		PostChangeFeedEvent changeEvent = new PostChangeFeedEvent(postId);
+		applicationEventPublisher.publishEvent(changeEvent);
+	}
+
+	@Override
+	public void postCommentCountEventPublish(Long postId, long delta) {
+		PostCommentCountEvent commentCountEvent = new PostCommentCountEvent(postId, delta);
+		applicationEventPublisher.publishEvent(commentCountEvent);
+	}
+
 }
@@ -0,0 +1,26 @@
+package dev.kyudong.back.post.adapter.out.feed;
+
+import dev.kyudong.back.feed.repository.FeedSeenRepository;
+import dev.kyudong.back.post.application.port.out.web.PostSeenPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSeenAdapter implements PostSeenPort {
+
+	private final FeedSeenRepository feedSeenRepository;
+
+	@Override
+	public void markSeenByUser(Long userId, Long postId) {
+		feedSeenRepository.markSeen(FeedSeenRepository.userKey(userId), postId);
+	}
+
+	@Override
+	public void markSeenByGuest(String guestId, Long postId) {
+		feedSeenRepository.markSeen(FeedSeenRepository.guestKey(guestId), postId);
+	}
+
+}
@@ -0,0 +1,25 @@
+package dev.kyudong.back.post.adapter.out.interaction;
+
+import dev.kyudong.back.interaction.domain.InteractionType;
+import dev.kyudong.back.interaction.domain.TargetType;
+import dev.kyudong.back.interaction.service.InteractionCounter;
+import dev.kyudong.back.post.application.port.out.web.PostInteractionCountPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostInteractionCountAdapter implements PostInteractionCountPort {
+
+	private final InteractionCounter interactionCounter;
+
+	@Override
+	public Map<InteractionType, Long> findInteractionCounts(Long postId) {
+		return interactionCounter.findCounts(TargetType.POST, postId);
+	}
+
+}
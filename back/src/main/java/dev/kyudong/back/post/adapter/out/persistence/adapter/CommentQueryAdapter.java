@@ -1,9 +1,15 @@
 package dev.kyudong.back.post.adapter.out.persistence.adapter;
 
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import dev.kyudong.back.post.application.port.out.web.CommentQueryPort;
-import dev.kyudong.back.post.domain.entity.Comment;
+import dev.kyudong.back.post.domain.dto.web.res.CommentItemResDto;
+import dev.kyudong.back.post.domain.entity.CommentStatus;
 import dev.kyudong.back.post.domain.entity.QComment;
+import dev.kyudong.back.user.domain.QUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
@@ -20,30 +26,61 @@ public class CommentQueryAdapter implements CommentQueryPort {
 	private final JPAQueryFactory queryFactory;
 
 	private static final QComment c = QComment.comment;
+	private static final QUser u = QUser.user;
 
+	private static final int PAGE_FETCH_SIZE = 21;
+
+	/**
+	 * 작성자를 함께 조인해 한 번의 쿼리로 댓글 목록을 만듭니다.
+	 * 삭제된 댓글은 자리는 유지하되 내용을 비워서 응답합니다
+	 */
+	private static final Expression<CommentItemResDto> COMMENT_ITEM_PROJECTION = Projections.constructor(
+			CommentItemResDto.class,
+			c.id,
+			u.id,
+			u.username,
+			new CaseBuilder()
+					.when(c.status.eq(CommentStatus.DELETED)).then(Expressions.nullExpression(String.class))
+					.otherwise(c.content),
+			c.status,
+			c.createdAt
+	);
+
+	/**
+	 * 커서 이후의 댓글을 작성 순으로 조회합니다.
+	 * (POST_ID, ID) 인덱스를 따라 읽습니다
+	 */
 	@Override
-	public List<Comment> findByOldCommentByCursor(Long postId, Long cursorId) {
+	public List<CommentItemResDto> findByOldCommentByCursor(Long postId, Long cursorId) {
 		return queryFactory
-				.selectFrom(c)
+				.select(COMMENT_ITEM_PROJECTION)
+				.from(c)
+				.join(c.user, u)
 				.where(
 						c.post.id.eq(postId),
 						cursorId == null ? null : c.id.gt(cursorId)
 				)
-				.orderBy(c.createdAt.asc())
-				.limit(21)
+				.orderBy(c.id.asc())
+				.limit(PAGE_FETCH_SIZE)
 				.fetch();
 	}
 
+	/**
+	 * 커서 이전의 댓글을 최신 순으로 조회합니다.
+	 * (POST_ID, ID) 인덱스를 역방향으로 읽습니다
+	 */
 	@Override
-	public List<Comment> findByNewCommentByCursor(Long postId, Long cursorId) {
+	public List<CommentItemResDto> findByNewCommentByCursor(Long postId, Long cursorId) {
 		return queryFactory
-				.selectFrom(c)
+				.select(COMMENT_ITEM_PROJECTION)
+				.from(c)
+				.join(c.user, u)
 				.where(
 						c.post.id.eq(postId),
 						cursorId == null ? null : c.id.lt(cursorId)
 				)
-				.orderBy(c.createdAt.desc())
-				.limit(21)
+				.orderBy(c.id.desc())
+				.limit(PAGE_FETCH_SIZE)
 				.fetch();
 	}
 
@@ -0,0 +1,141 @@
+package dev.kyudong.back.post.adapter.out.persistence.adapter;
+
+import dev.kyudong.back.post.application.port.out.web.PostScoreDeltaPort;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 점수 증감은 요청마다 노드 메모리의 {@link DoubleAdder}에만 누적하고,
+ * 주기적으로 Redis 해시에 HINCRBYFLOAT로 합친 뒤 한 노드가 DB에 일괄 반영합니다.
+ * 댓글 수 증감도 {@link LongAdder}와 별도 해시에 같은 방식으로 모아 점수 증감과 함께 반영합니다.
+ * 공용 누적분이 처음 생긴 시각을 함께 기록해 반영 지연을 측정합니다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PostScoreDeltaAdapter implements PostScoreDeltaPort {
+
+	private static final String DELTA_KEY = "post:score_deltas";
+	private static final String FLUSHING_KEY = "post:score_deltas:flushing";
+	private static final String SINCE_KEY = "post:score_deltas:since";
+	private static final String FLUSHING_SINCE_KEY = "post:score_deltas:flushing:since";
+	private static final String COMMENT_DELTA_KEY = "post:comment_deltas";
+	private static final String COMMENT_FLUSHING_KEY = "post:comment_deltas:flushing";
+
+	private final StringRedisTemplate redisTemplate;
+
+	private final ConcurrentHashMap<Long, DoubleAdder> localDeltas = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, LongAdder> localCommentDeltas = new ConcurrentHashMap<>();
+
+	@Override
+	public void add(Long postId, double delta) {
+		localDeltas.computeIfAbsent(postId, id -> new DoubleAdder()).add(delta);
+	}
+
+	@Override
+	public void addCommentCount(Long postId, long delta) {
+		localCommentDeltas.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+	}
+
+	@Override
+	public void publish() {
+		Map<Long, Double> deltas = new HashMap<>();
+		localDeltas.forEach((postId, adder) -> {
+			double delta = adder.sumThenReset();
+			localDeltas.remove(postId, adder);
+			// 제거 직전에 더해진 증감을 한 번 더 거둡니다
+			delta += adder.sumThenReset();
+			if (delta != 0.0D) {
+				deltas.put(postId, delta);
+			}
+		});
+		Map<Long, Long> commentDeltas = new HashMap<>();
+		localCommentDeltas.forEach((postId, adder) -> {
+			long delta = adder.sumThenReset();
+			localCommentDeltas.remove(postId, adder);
+			delta += adder.sumThenReset();
+			if (delta != 0L) {
+				commentDeltas.put(postId, delta);
+			}
+		});
+		if (deltas.isEmpty() && commentDeltas.isEmpty()) {
+			return;
+		}
+
+		String now = String.valueOf(Instant.now().toEpochMilli());
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) throws DataAccessException {
+					deltas.forEach((postId, delta) ->
+							operations.opsForHash().increment(DELTA_KEY, String.valueOf(postId), delta));
+					commentDeltas.forEach((postId, delta) ->
+							operations.opsForHash().increment(COMMENT_DELTA_KEY, String.valueOf(postId), delta));
+					operations.opsForValue().setIfAbsent(SINCE_KEY, now);
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			// Redis에 옮기지 못한 증감은 다음 주기에 다시 시도합니다
+			log.warn("점수 증감을 Redis에 반영하지 못했습니다: posts={}, commentPosts={}", deltas.size(), commentDeltas.size(), e);
+			deltas.forEach((postId, delta) -> add(postId, delta));
+			commentDeltas.forEach((postId, delta) -> addCommentCount(postId, delta));
+		}
+	}
+
+	/**
+	 * 두 처리 중 해시가 모두 없을 때만 공용 누적분을 옮기므로, 이전에 반영하지 못한 누적분과 새 누적분이 섞이지 않습니다
+	 */
+	@Override
+	public Claimed claim() {
+		if (redisTemplate.countExistingKeys(List.of(FLUSHING_KEY, COMMENT_FLUSHING_KEY)) == 0L) {
+			if (redisTemplate.countExistingKeys(List.of(DELTA_KEY, COMMENT_DELTA_KEY)) == 0L) {
+				return Claimed.empty();
+			}
+			renameIfExists(DELTA_KEY, FLUSHING_KEY);
+			renameIfExists(COMMENT_DELTA_KEY, COMMENT_FLUSHING_KEY);
+			renameIfExists(SINCE_KEY, FLUSHING_SINCE_KEY);
+		}
+
+		Map<Long, Double> deltas = new HashMap<>();
+		redisTemplate.<String, String>opsForHash().entries(FLUSHING_KEY)
+				.forEach((postId, delta) -> deltas.put(Long.valueOf(postId), Double.valueOf(delta)));
+		Map<Long, Long> commentDeltas = new HashMap<>();
+		redisTemplate.<String, String>opsForHash().entries(COMMENT_FLUSHING_KEY)
+				.forEach((postId, delta) -> commentDeltas.put(Long.valueOf(postId), Long.valueOf(delta)));
+		String since = redisTemplate.opsForValue().get(FLUSHING_SINCE_KEY);
+		return new Claimed(deltas, commentDeltas, since == null ? null : Instant.ofEpochMilli(Long.parseLong(since)));
+	}
+
+	@Override
+	public void complete() {
+		redisTemplate.delete(List.of(FLUSHING_KEY, COMMENT_FLUSHING_KEY, FLUSHING_SINCE_KEY));
+	}
+
+	private void renameIfExists(String key, String newKey) {
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+			redisTemplate.rename(key, newKey);
+		}
+	}
+
+	@PreDestroy
+	public void publishOnShutdown() {
+		publish();
+	}
+
+}
@@ -0,0 +1,184 @@
+package dev.kyudong.back.post.adapter.out.persistence.adapter;
+
+import dev.kyudong.back.post.application.port.out.web.PostViewCountPort;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 조회수는 요청마다 노드 메모리의 {@link LongAdder}에만 누적하고,
+ * 주기적으로 Redis 해시에 HINCRBY로 합친 뒤 한 노드가 DB에 일괄 반영합니다.
+ * 반영 직전에 메모리에서 제거된 카운터에 더해진 조회는 유실될 수 있으므로 조회수는 근사값입니다.
+ * <p>
+ * 게스트 조회는 게시글과 구간마다 HyperLogLog 하나(최대 12KB)에 기록하고,
+ * 반영할 때 추정 고유 방문자 수가 이전 반영 이후 늘어난 만큼만 조회수에 더합니다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountAdapter implements PostViewCountPort {
+
+	private static final String COUNT_KEY = "post:view_counts";
+	private static final String FLUSHING_KEY = "post:view_counts:flushing";
+
+	private static final String GUEST_VIEWERS_KEY_PREFIX = "post:guest_viewers:";
+	private static final String GUEST_MERGED_KEY_PREFIX = "post:guest_viewers:merged:";
+	private static final String GUEST_DIRTY_KEY = "post:guest_viewers:dirty";
+	private static final String GUEST_MERGING_KEY = "post:guest_viewers:dirty:merging";
+
+	// 같은 게스트의 조회를 한 번으로 보는 구간
+	private static final Duration GUEST_WINDOW = Duration.ofHours(72);
+	// 구간이 끝난 뒤 마지막 반영을 기다리는 시간
+	private static final Duration GUEST_WINDOW_GRACE = Duration.ofMinutes(10);
+
+	private final StringRedisTemplate redisTemplate;
+
+	private final ConcurrentHashMap<Long, LongAdder> localCounts = new ConcurrentHashMap<>();
+
+	@Override
+	public void increase(Long postId) {
+		localCounts.computeIfAbsent(postId, id -> new LongAdder()).increment();
+	}
+
+	@Override
+	public void increaseGuest(Long postId, String guestId) {
+		long window = Instant.now().toEpochMilli() / GUEST_WINDOW.toMillis();
+		String viewersKey = guestViewersKey(window, postId);
+		Date expireAt = windowExpireAt(window);
+		pipelined(operations -> {
+			operations.opsForHyperLogLog().add(viewersKey, guestId);
+			operations.expireAt(viewersKey, expireAt);
+			operations.opsForSet().add(GUEST_DIRTY_KEY, window + ":" + postId);
+		});
+	}
+
+	@Override
+	public void publish() {
+		Map<Long, Long> deltas = new HashMap<>();
+		localCounts.forEach((postId, counter) -> {
+			long delta = counter.sumThenReset();
+			localCounts.remove(postId, counter);
+			// 제거 직전에 더해진 조회를 한 번 더 거둡니다
+			delta += counter.sumThenReset();
+			if (delta > 0) {
+				deltas.put(postId, delta);
+			}
+		});
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		try {
+			pipelined(operations -> deltas.forEach((postId, delta) ->
+					operations.opsForHash().increment(COUNT_KEY, String.valueOf(postId), delta)));
+		} catch (DataAccessException e) {
+			// Redis에 옮기지 못한 조회수는 다음 주기에 다시 시도합니다
+			log.warn("조회수 누적분을 Redis에 반영하지 못했습니다: posts={}", deltas.size(), e);
+			deltas.forEach((postId, delta) -> localCounts.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+		}
+	}
+
+	@Override
+	public Map<Long, Long> claim() {
+		mergeGuestViewers();
+
+		if (Boolean.FALSE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+			if (Boolean.FALSE.equals(redisTemplate.hasKey(COUNT_KEY))) {
+				return Map.of();
+			}
+			redisTemplate.rename(COUNT_KEY, FLUSHING_KEY);
+		}
+
+		Map<Long, Long> counts = new HashMap<>();
+		redisTemplate.<String, String>opsForHash().entries(FLUSHING_KEY)
+				.forEach((postId, delta) -> counts.put(Long.valueOf(postId), Long.valueOf(delta)));
+		return counts;
+	}
+
+	@Override
+	public void complete() {
+		redisTemplate.delete(FLUSHING_KEY);
+	}
+
+	@PreDestroy
+	public void publishOnShutdown() {
+		publish();
+	}
+
+	/**
+	 * 지난 반영 이후 게스트가 조회한 게시글의 고유 방문자 증가분을 공용 누적분에 더합니다.
+	 * 반영한 방문자 수를 먼저 기록하므로 도중에 실패하면 중복 집계 대신 일부가 누락됩니다
+	 */
+	private void mergeGuestViewers() {
+		if (Boolean.FALSE.equals(redisTemplate.hasKey(GUEST_MERGING_KEY))) {
+			if (Boolean.FALSE.equals(redisTemplate.hasKey(GUEST_DIRTY_KEY))) {
+				return;
+			}
+			redisTemplate.rename(GUEST_DIRTY_KEY, GUEST_MERGING_KEY);
+		}
+
+		Set<String> members = redisTemplate.opsForSet().members(GUEST_MERGING_KEY);
+		if (members == null || members.isEmpty()) {
+			redisTemplate.delete(GUEST_MERGING_KEY);
+			return;
+		}
+		List<String> entries = new ArrayList<>(members);
+		List<Object> results = pipelined(operations -> entries.forEach(entry -> {
+			long window = Long.parseLong(entry.substring(0, entry.indexOf(':')));
+			String postId = entry.substring(entry.indexOf(':') + 1);
+			operations.opsForHyperLogLog().size(guestViewersKey(window, Long.valueOf(postId)));
+			operations.opsForHash().get(GUEST_MERGED_KEY_PREFIX + window, postId);
+		}));
+
+		pipelined(operations -> {
+			for (int i = 0; i < entries.size(); i++) {
+				String entry = entries.get(i);
+				long window = Long.parseLong(entry.substring(0, entry.indexOf(':')));
+				String postId = entry.substring(entry.indexOf(':') + 1);
+				long viewers = ((Number) results.get(i * 2)).longValue();
+				Object merged = results.get(i * 2 + 1);
+				long delta = viewers - (merged == null ? 0L : Long.parseLong(merged.toString()));
+				if (delta <= 0) {
+					continue;
+				}
+				String mergedKey = GUEST_MERGED_KEY_PREFIX + window;
+				operations.opsForHash().put(mergedKey, postId, String.valueOf(viewers));
+				operations.expireAt(mergedKey, windowExpireAt(window));
+				operations.opsForHash().increment(COUNT_KEY, postId, delta);
+			}
+			operations.delete(GUEST_MERGING_KEY);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> pipelined(Consumer<RedisOperations<String, String>> commands) {
+		return redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			public Object execute(RedisOperations operations) throws DataAccessException {
+				commands.accept(operations);
+				return null;
+			}
+		});
+	}
+
+	private static String guestViewersKey(long window, Long postId) {
+		return GUEST_VIEWERS_KEY_PREFIX + window + ":" + postId;
+	}
+
+	private static Date windowExpireAt(long window) {
+		return new Date((window + 1) * GUEST_WINDOW.toMillis() + GUEST_WINDOW_GRACE.toMillis());
+	}
+
+}
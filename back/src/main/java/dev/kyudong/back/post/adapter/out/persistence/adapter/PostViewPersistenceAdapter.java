@@ -1,27 +1,141 @@
 package dev.kyudong.back.post.adapter.out.persistence.adapter;
 
-import dev.kyudong.back.post.adapter.out.persistence.repository.PostViewRepository;
 import dev.kyudong.back.post.application.port.out.web.PostViewPersistencePort;
-import dev.kyudong.back.post.domain.entity.Post;
-import dev.kyudong.back.post.domain.entity.PostView;
-import dev.kyudong.back.user.domain.User;
-import lombok.RequiredArgsConstructor;
+import dev.kyudong.back.post.properties.PostProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 조회 기록은 요청마다 쓰지 않고 크기가 제한된 대기열에 모았다가
+ * 여러 행을 담은 INSERT ... ON CONFLICT 문으로 한 번에 씁니다.
+ * 같은 (사용자, 게시글) 조회는 마지막 조회 시각만 갱신됩니다
+ */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class PostViewPersistenceAdapter implements PostViewPersistencePort {
 
-	private final PostViewRepository postViewRepository;
+	private static final String UPSERT_PREFIX = "INSERT INTO post_view (user_id, post_id, first_view_at, last_view_at) VALUES ";
+	private static final String UPSERT_VALUES = "(?, ?, ?, ?)";
+	private static final String UPSERT_SUFFIX = " ON CONFLICT (user_id, post_id) DO UPDATE"
+			+ " SET last_view_at = GREATEST(post_view.last_view_at, EXCLUDED.last_view_at)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PostProperties.View viewProperties;
+	private final BlockingQueue<PendingView> queue;
+	private final Counter droppedCounter;
+	private final Counter writtenCounter;
+
+	public PostViewPersistenceAdapter(JdbcTemplate jdbcTemplate, PostProperties postProperties, MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.viewProperties = postProperties.view();
+		this.queue = new ArrayBlockingQueue<>(viewProperties.queueCapacity());
+		this.droppedCounter = meterRegistry.counter("post.view.record.dropped");
+		this.writtenCounter = meterRegistry.counter("post.view.record.written");
+		meterRegistry.gauge("post.view.record.queue.depth", queue, Collection::size);
+	}
+
+	@Override
+	public void recordView(Long userId, Long postId, Instant viewedAt) {
+		if (!queue.offer(new PendingView(userId, postId, viewedAt))) {
+			droppedCounter.increment();
+			log.debug("조회 기록 대기열이 가득 차 기록을 버립니다: userId={}, postId={}", userId, postId);
+		}
+	}
 
 	@Override
-	@Transactional
-	public void increaseViewCount(User user, Post post) {
-		postViewRepository.findByUserAndPost(user, post)
-				.orElseGet(() -> postViewRepository.save(PostView.of(user, post)));
+	public void flush() {
+		List<PendingView> drained = new ArrayList<>(viewProperties.flushSize());
+		while (queue.drainTo(drained, viewProperties.flushSize()) > 0) {
+			try {
+				upsert(drained);
+			} catch (DataAccessException e) {
+				log.warn("조회 기록 묶음 쓰기에 실패하여 한 건씩 다시 씁니다: size={}", drained.size(), e);
+				if (!upsertEach(drained)) {
+					return;
+				}
+			}
+			drained.clear();
+		}
 	}
 
+	/**
+	 * 조회 기록을 한 건씩 씁니다.
+	 * 삭제된 사용자나 게시글처럼 무결성을 위반하는 기록만 버리고, 그 밖의 오류라면
+	 * DB를 사용할 수 없다고 보고 남은 기록을 대기열에 되돌려 다음 주기에 다시 씁니다
+	 * @param views	조회 기록
+	 * @return 모든 기록을 처리했다면 true, 남은 기록을 되돌렸다면 false
+	 */
+	private boolean upsertEach(List<PendingView> views) {
+		for (int i = 0; i < views.size(); i++) {
+			try {
+				upsert(List.of(views.get(i)));
+			} catch (DataIntegrityViolationException e) {
+				log.debug("쓸 수 없는 조회 기록을 버립니다: {}", views.get(i));
+				droppedCounter.increment();
+			} catch (DataAccessException e) {
+				log.error("조회 기록 쓰기에 실패하여 다음 주기에 다시 씁니다: remaining={}", views.size() - i, e);
+				requeue(views.subList(i, views.size()));
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void requeue(List<PendingView> views) {
+		for (PendingView view : views) {
+			if (!queue.offer(view)) {
+				droppedCounter.increment();
+			}
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	private void upsert(List<PendingView> views) {
+		// 한 문장 안에서 같은 행을 두 번 갱신할 수 없으므로 마지막 조회 시각만 남깁니다
+		Map<ViewKey, Instant> latest = new LinkedHashMap<>();
+		for (PendingView view : views) {
+			latest.merge(new ViewKey(view.userId(), view.postId()), view.viewedAt(),
+					(before, after) -> after.isAfter(before) ? after : before);
+		}
+
+		StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+		Object[] args = new Object[latest.size() * 4];
+		int i = 0;
+		for (Map.Entry<ViewKey, Instant> entry : latest.entrySet()) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(UPSERT_VALUES);
+			Timestamp viewedAt = Timestamp.from(entry.getValue());
+			args[i++] = entry.getKey().userId();
+			args[i++] = entry.getKey().postId();
+			args[i++] = viewedAt;
+			args[i++] = viewedAt;
+		}
+		sql.append(UPSERT_SUFFIX);
+
+		jdbcTemplate.update(sql.toString(), args);
+		writtenCounter.increment(latest.size());
+	}
+
+	private record PendingView(Long userId, Long postId, Instant viewedAt) {}
+
+	private record ViewKey(Long userId, Long postId) {}
+
 }
@@ -1,37 +1,56 @@
 package dev.kyudong.back.post.adapter.out.persistence.repository;
 
 import dev.kyudong.back.post.domain.entity.Post;
-import dev.kyudong.back.user.domain.User;
-import jakarta.persistence.Tuple;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
-import java.util.List;
-import java.util.Set;
+import java.util.Collection;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+	/**
+	 * {@link Post#calculateHotScore}와 같은 식입니다
+	 */
+	String HOT_SCORE_EXPRESSION = """
+		(post_view_count * 0.1 + post_score + comment_count * 1.2 + 1)
+		* GREATEST(0.1, 1.0 - FLOOR(EXTRACT(EPOCH FROM (now() - created_at)) / 3600) / (24.0 * 7))
+	""";
+
 	boolean existsById(Long postId);
 
-	@Query("""
- 		SELECT MAX(p.id) AS max, MIN(p.id) AS min 
- 		FROM Post p
-	""")
-	Tuple findMaxAndMin();
-
-	@Query("""
- 		SELECT p.id 
- 		FROM Post p 
- 		WHERE p.id IN :ids
- 		AND p.createdAt < :date
-	""")
-	List<Long> findIdsByIdIn(
-			@Param("ids") Set<Long> ids,
-			@Param("date") Instant date,
-			Pageable pageable
-	);
+	@Modifying
+	@Query(value = """
+		UPDATE posts p
+		SET comment_count = agg.cnt
+		FROM (
+			SELECT p2.id AS post_id, COUNT(c.id) AS cnt
+			FROM posts p2
+			LEFT JOIN comments c ON c.post_id = p2.id AND c.status = 'NORMAL'
+			GROUP BY p2.id
+		) agg
+		WHERE p.id = agg.post_id
+		AND p.comment_count <> agg.cnt
+	""", nativeQuery = true)
+	int reconcileCommentCounts();
+
+	@Modifying
+	@Query(value = "UPDATE posts SET hot_score = " + HOT_SCORE_EXPRESSION + " WHERE id = :postId", nativeQuery = true)
+	int refreshHotScore(@Param("postId") Long postId);
+
+	/**
+	 * 감쇠가 진행 중인(생성 후 일주일 이내) 게시글의 인기 점수를 다시 계산합니다.
+	 * 그보다 오래된 게시글은 감쇠가 끝나 이벤트로만 갱신됩니다
+	 */
+	@Modifying
+	@Query(value = "UPDATE posts SET hot_score = " + HOT_SCORE_EXPRESSION
+			+ " WHERE status = 'NORMAL' AND created_at >= :since", nativeQuery = true)
+	int refreshHotScores(@Param("since") Instant since);
+
+	@Modifying
+	@Query(value = "UPDATE posts SET hot_score = " + HOT_SCORE_EXPRESSION + " WHERE id IN (:postIds)", nativeQuery = true)
+	int refreshHotScoresByIds(@Param("postIds") Collection<Long> postIds);
 
 }
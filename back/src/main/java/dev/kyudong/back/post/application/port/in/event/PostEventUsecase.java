@@ -1,13 +1,27 @@
 package dev.kyudong.back.post.application.port.in.event;
 
 import dev.kyudong.back.interaction.api.dto.event.InteractionScoreEvent;
+import dev.kyudong.back.post.domain.dto.event.PostCommentCountEvent;
 
 public interface PostEventUsecase {
 
 	/**
-	 * 상호작용 후 해당 게시글({@link dev.kyudong.back.post.domain.entity.Post})에 점수를 수정합니다.
+	 * 상호작용 후 해당 게시글({@link dev.kyudong.back.post.domain.entity.Post})의 점수 증감을 누적합니다.
+	 * 누적된 증감은 {@link #flushScoreDeltas()}에서 반영됩니다
 	 * @param event 게시글 아이디와 점수
 	 */
 	void handlePostScoreUpdate(InteractionScoreEvent event);
 
+	/**
+	 * 댓글 작성, 삭제, 복구가 커밋된 뒤 해당 게시글의 댓글 수 증감을 누적합니다.
+	 * 누적된 증감은 점수 증감과 함께 {@link #flushScoreDeltas()}에서 반영됩니다
+	 * @param event 게시글 아이디와 댓글 수 증감
+	 */
+	void handleCommentCountUpdate(PostCommentCountEvent event);
+
+	/**
+	 * 모아 둔 점수 증감과 댓글 수 증감을 Redis에 합치고, 락을 얻은 노드만 DB에 반영합니다
+	 */
+	void flushScoreDeltas();
+
 }
@@ -9,4 +9,14 @@ public interface PostViewEventUsecase {
 
 	void increasePostViewWithGuest(PostViewIncreaseWithGuestEvent event);
 
+	/**
+	 * 모아 둔 로그인 사용자 조회 기록을 DB에 씁니다
+	 */
+	void flushViewRecords();
+
+	/**
+	 * 모아 둔 조회수를 Redis에 합치고, 락을 얻은 노드만 DB에 반영합니다
+	 */
+	void flushViewCounts();
+
 }
@@ -32,6 +32,14 @@ public interface PostUsecase {
 
 	Post getPostEntityOrThrow(Long postId);
 
-	void refreshRandomOldPost();
+	void increaseCommentCount(Long postId);
+
+	void decreaseCommentCount(Long postId);
+
+	void reconcileCommentCounts();
+
+	void refreshHotScore(Long postId);
+
+	void refreshHotScores();
 
 }
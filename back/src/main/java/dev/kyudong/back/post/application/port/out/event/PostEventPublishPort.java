@@ -10,4 +10,8 @@ public interface PostEventPublishPort {
 
 	void postUpdateEventPublish(Post post, Set<Long> fileIds);
 
+	void postChangeEventPublish(Long postId);
+
+	void postCommentCountEventPublish(Long postId, long delta);
+
 }
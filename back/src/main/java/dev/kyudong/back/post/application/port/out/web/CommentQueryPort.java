@@ -1,13 +1,13 @@
 package dev.kyudong.back.post.application.port.out.web;
 
-import dev.kyudong.back.post.domain.entity.Comment;
+import dev.kyudong.back.post.domain.dto.web.res.CommentItemResDto;
 
 import java.util.List;
 
 public interface CommentQueryPort {
 
-	List<Comment> findByOldCommentByCursor(Long postId, Long cursorId);
+	List<CommentItemResDto> findByOldCommentByCursor(Long postId, Long cursorId);
 
-	List<Comment> findByNewCommentByCursor(Long postId, Long cursorId);
+	List<CommentItemResDto> findByNewCommentByCursor(Long postId, Long cursorId);
 
 }
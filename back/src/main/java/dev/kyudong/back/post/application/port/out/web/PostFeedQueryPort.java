@@ -1,13 +1,15 @@
 package dev.kyudong.back.post.application.port.out.web;
 
+import dev.kyudong.back.feed.api.dto.FeedCandidate;
 import dev.kyudong.back.feed.api.dto.PostFeedDto;
+import dev.kyudong.back.feed.api.dto.PostScoreDto;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
 /**
- * {@link dev.kyudong.back.feed.domain.Feed}에서 {@link dev.kyudong.back.post.domain.entity.Post} 목록 조회시 사용됩니다.
+ * {@link dev.kyudong.back.feed.service.FeedGenerator}에서 {@link dev.kyudong.back.post.domain.entity.Post} 목록 조회시 사용됩니다.
  */
 public interface PostFeedQueryPort {
 
@@ -15,18 +17,35 @@ public interface PostFeedQueryPort {
 
 	List<PostFeedDto> findPreviewPosts(int size);
 
-	List<PostFeedDto> findRecentPosts(Long userId, Instant now, int size);
+	/**
+	 * 최신 게시글 후보를 조회합니다, 후보 풀이 보관하는 컬럼만 조회합니다
+	 * @param since	생성 시각 기준
+	 * @param size	조회할 개수
+	 * @return 생성 시각 내림차순 후보
+	 */
+	List<FeedCandidate> findRecentCandidates(Instant since, int size);
 
-	List<PostFeedDto> findRecentPosts(Instant now, int size);
+	/**
+	 * 인기 게시글 후보를 조회합니다, 후보 풀이 보관하는 컬럼만 조회합니다
+	 * @param since	생성 시각 기준
+	 * @param size	조회할 개수
+	 * @return 인기 점수 내림차순 후보
+	 */
+	List<FeedCandidate> findPopularCandidates(Instant since, int size);
 
-	List<PostFeedDto> findPopularPosts(Long userId, Instant now, int size);
-
-	List<PostFeedDto> findPopularPosts(Instant now, int size);
-
-	List<PostFeedDto> findByFollowingPost(Long userId, int size);
+	List<PostFeedDto> findByAuthorIds(Set<Long> authorIds, Instant since, int size);
 
 	List<PostFeedDto> findAllByIds(Long userId, Set<Long> postIds);
 
 	List<PostFeedDto> findAllByIds(Set<Long> postIds);
 
+	/**
+	 * 기준 시각 이전에 생성된 게시글을 아이디 순서로 이어서 조회합니다
+	 * @param afterId	이전 조회의 마지막 아이디, 처음이라면 0
+	 * @param before	생성 시각 기준
+	 * @param size		조회할 개수
+	 * @return 아이디 오름차순 게시글 아이디와 점수
+	 */
+	List<PostScoreDto> findOldPostScores(long afterId, Instant before, int size);
+
 }
@@ -0,0 +1,19 @@
+package dev.kyudong.back.post.application.port.out.web;
+
+import dev.kyudong.back.interaction.domain.InteractionType;
+
+import java.util.Map;
+
+/**
+ * 게시글의 상호작용 유형별 수를 조회하기 위한 포트입니다
+ */
+public interface PostInteractionCountPort {
+
+	/**
+	 * 게시글의 상호작용 유형별 수를 조회합니다
+	 * @param postId	게시글 아이디
+	 * @return 0보다 큰 유형만 담은 유형별 수
+	 */
+	Map<InteractionType, Long> findInteractionCounts(Long postId);
+
+}
@@ -2,6 +2,9 @@ package dev.kyudong.back.post.application.port.out.web;
 
 import dev.kyudong.back.post.domain.entity.Post;
 
+import java.time.Instant;
+import java.util.Map;
+
 public interface PostPersistencePort {
 
 	Post findByIdOrThrow(Long postId);
@@ -10,6 +13,28 @@ public interface PostPersistencePort {
 
 	boolean existsById(Long postId);
 
-	void refreshRandomOldPost();
+	int reconcileCommentCounts();
+
+	void refreshHotScore(Long postId);
+
+	int refreshHotScores(Instant since);
+
+	/**
+	 * 모아 둔 조회수 증가량을 한 번의 배치로 반영하고 해당 게시글의 인기 점수를 다시 계산합니다
+	 * @param deltas	게시글 아이디별 증가량
+	 */
+	void addViewCounts(Map<Long, Long> deltas);
+
+	/**
+	 * 모아 둔 점수 증감을 한 번의 배치로 반영하고 해당 게시글의 인기 점수를 다시 계산합니다
+	 * @param deltas	게시글 아이디별 점수 증감
+	 */
+	void addScores(Map<Long, Double> deltas);
+
+	/**
+	 * 모아 둔 댓글 수 증감을 한 번의 배치로 반영하고 해당 게시글의 인기 점수를 다시 계산합니다
+	 * @param deltas	게시글 아이디별 댓글 수 증감
+	 */
+	void addCommentCounts(Map<Long, Long> deltas);
 
 }
@@ -0,0 +1,59 @@
+package dev.kyudong.back.post.application.port.out.web;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 상호작용 점수 증감과 댓글 수 증감을 게시글별로 메모리와 Redis에 합쳐 두었다가 한 번에 반영하기 위한 포트입니다
+ */
+public interface PostScoreDeltaPort {
+
+	/**
+	 * 현재 노드의 메모리에 점수 증감을 누적합니다
+	 * @param postId	게시글 아이디
+	 * @param delta		점수 증감
+	 */
+	void add(Long postId, double delta);
+
+	/**
+	 * 현재 노드의 메모리에 댓글 수 증감을 누적합니다
+	 * @param postId	게시글 아이디
+	 * @param delta		댓글 수 증감
+	 */
+	void addCommentCount(Long postId, long delta);
+
+	/**
+	 * 현재 노드에 누적된 점수 증감과 댓글 수 증감을 Redis 공용 누적분으로 옮깁니다
+	 */
+	void publish();
+
+	/**
+	 * Redis 공용 누적분을 처리 중 상태로 옮기고 조회합니다.
+	 * 이전에 반영하지 못한 처리 중 누적분이 남아 있다면 그것을 먼저 반환합니다
+	 * @return 반영할 점수 증감과 댓글 수 증감, 없으면 빈 누적분
+	 */
+	Claimed claim();
+
+	/**
+	 * 처리 중 누적분을 DB에 반영했으므로 삭제합니다
+	 */
+	void complete();
+
+	/**
+	 * @param deltas			게시글 아이디별 점수 증감
+	 * @param commentDeltas		게시글 아이디별 댓글 수 증감
+	 * @param oldestAt			누적분 중 가장 먼저 Redis에 옮겨진 시각, 알 수 없으면 null
+	 */
+	record Claimed(Map<Long, Double> deltas, Map<Long, Long> commentDeltas, Instant oldestAt) {
+
+		public static Claimed empty() {
+			return new Claimed(Map.of(), Map.of(), null);
+		}
+
+		public boolean isEmpty() {
+			return deltas.isEmpty() && commentDeltas.isEmpty();
+		}
+
+	}
+
+}
@@ -0,0 +1,22 @@
+package dev.kyudong.back.post.application.port.out.web;
+
+/**
+ * 조회한 게시글을 피드의 본 게시글 필터에 기록하기 위한 포트입니다
+ */
+public interface PostSeenPort {
+
+	/**
+	 * 사용자가 본 게시글로 기록합니다
+	 * @param userId	사용자 아이디
+	 * @param postId	조회한 게시글 아이디
+	 */
+	void markSeenByUser(Long userId, Long postId);
+
+	/**
+	 * 게스트가 본 게시글로 기록합니다
+	 * @param guestId	게스트 아이디
+	 * @param postId	조회한 게시글 아이디
+	 */
+	void markSeenByGuest(String guestId, Long postId);
+
+}
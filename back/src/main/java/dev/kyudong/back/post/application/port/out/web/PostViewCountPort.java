@@ -0,0 +1,41 @@
+package dev.kyudong.back.post.application.port.out.web;
+
+import java.util.Map;
+
+/**
+ * 게시글 조회수를 메모리와 Redis에 모아 두었다가 한 번에 반영하기 위한 포트입니다
+ */
+public interface PostViewCountPort {
+
+	/**
+	 * 현재 노드의 메모리에 조회수를 하나 누적합니다
+	 * @param postId	조회한 게시글 아이디
+	 */
+	void increase(Long postId);
+
+	/**
+	 * 게스트 조회를 게시글별 고유 방문자 집합에 기록합니다.
+	 * 같은 구간 안에서 같은 게스트의 조회는 한 번만 집계됩니다
+	 * @param postId	조회한 게시글 아이디
+	 * @param guestId	게스트 아이디
+	 */
+	void increaseGuest(Long postId, String guestId);
+
+	/**
+	 * 현재 노드에 누적된 조회수를 Redis 공용 누적분으로 옮깁니다
+	 */
+	void publish();
+
+	/**
+	 * 게스트 고유 방문자 증가분을 합친 뒤 Redis 공용 누적분을 처리 중 상태로 옮기고 조회합니다.
+	 * 이전에 반영하지 못한 처리 중 누적분이 남아 있다면 그것을 먼저 반환합니다
+	 * @return 게시글 아이디별 증가량
+	 */
+	Map<Long, Long> claim();
+
+	/**
+	 * 처리 중 누적분을 DB에 반영했으므로 삭제합니다
+	 */
+	void complete();
+
+}
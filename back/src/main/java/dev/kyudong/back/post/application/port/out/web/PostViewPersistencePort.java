@@ -1,17 +1,23 @@
 package dev.kyudong.back.post.application.port.out.web;
 
-import dev.kyudong.back.post.domain.entity.Post;
-import dev.kyudong.back.user.domain.User;
+import java.time.Instant;
 
 public interface PostViewPersistencePort {
 
 	/**
-	 * 게시글의 조회수를 증가시킵니다, 해당 메서드는 이벤트를 통해 요청됩니다
-	 * @param user	조회한 사용자
-	 * @param post	조회한 게시글
+	 * 로그인 사용자의 게시글 조회 기록을 쓰기 대기열에 추가합니다, 해당 메서드는 이벤트를 통해 요청됩니다.
+	 * 대기열이 가득 찼다면 기록을 버립니다
+	 * @param userId	조회한 사용자 아이디
+	 * @param postId	조회한 게시글 아이디
+	 * @param viewedAt	조회 시각
 	 *
 	 * @see dev.kyudong.back.post.application.port.in.event.PostViewEventUsecase
 	 */
-	void increaseViewCount(User user, Post post);
+	void recordView(Long userId, Long postId, Instant viewedAt);
+
+	/**
+	 * 대기열의 조회 기록을 (사용자, 게시글)마다 한 행으로 일괄 upsert 합니다
+	 */
+	void flush();
 
 }
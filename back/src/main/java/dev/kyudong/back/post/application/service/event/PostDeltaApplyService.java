@@ -0,0 +1,49 @@
+package dev.kyudong.back.post.application.service.event;
+
+import dev.kyudong.back.post.application.port.out.event.PostEventPublishPort;
+import dev.kyudong.back.post.application.port.out.web.PostPersistencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis에 모아 둔 누적분을 게시글에 반영하고 카드 캐시 무효화 이벤트를 한 트랜잭션으로 발행해, 커밋된 뒤에만 캐시가 비워지게 합니다
+ */
+@Service
+@RequiredArgsConstructor
+public class PostDeltaApplyService {
+
+	private final PostPersistencePort postPersistencePort;
+	private final PostEventPublishPort postEventPublishPort;
+
+	/**
+	 * @param deltas			게시글 아이디별 점수 증감
+	 * @param commentDeltas		게시글 아이디별 댓글 수 증감
+	 */
+	@Transactional
+	public void applyScoreDeltas(Map<Long, Double> deltas, Map<Long, Long> commentDeltas) {
+		Set<Long> postIds = new HashSet<>(deltas.keySet());
+		if (!deltas.isEmpty()) {
+			postPersistencePort.addScores(deltas);
+		}
+		if (!commentDeltas.isEmpty()) {
+			postPersistencePort.addCommentCounts(commentDeltas);
+			postIds.addAll(commentDeltas.keySet());
+		}
+		postIds.forEach(postEventPublishPort::postChangeEventPublish);
+	}
+
+	/**
+	 * @param deltas	게시글 아이디별 조회수 증가량
+	 */
+	@Transactional
+	public void applyViewCounts(Map<Long, Long> deltas) {
+		postPersistencePort.addViewCounts(deltas);
+		deltas.keySet().forEach(postEventPublishPort::postChangeEventPublish);
+	}
+
+}
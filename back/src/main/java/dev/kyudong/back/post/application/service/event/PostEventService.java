@@ -2,31 +2,108 @@ package dev.kyudong.back.post.application.service.event;
 
 import dev.kyudong.back.interaction.api.dto.event.InteractionScoreEvent;
 import dev.kyudong.back.post.application.port.in.event.PostEventUsecase;
-import dev.kyudong.back.post.application.port.in.web.PostUsecase;
-import dev.kyudong.back.post.domain.entity.Post;
-import lombok.RequiredArgsConstructor;
+import dev.kyudong.back.post.application.port.out.web.PostScoreDeltaPort;
+import dev.kyudong.back.post.domain.dto.event.PostCommentCountEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PostEventService implements PostEventUsecase {
 
-	private final PostUsecase postUsecase;
+	private static final String FLUSH_LOCK_KEY = "post:score_deltas:lock";
+	private static final Duration FLUSH_LOCK_LEASE = Duration.ofMinutes(1);
+
+	private final PostDeltaApplyService postDeltaApplyService;
+	private final PostScoreDeltaPort postScoreDeltaPort;
+	private final RedissonClient redissonClient;
+	private final Timer flushTimer;
+	private final Timer flushIntervalTimer;
+	private final Timer flushLagTimer;
+
+	private volatile long lastFlushedNanos;
+
+	public PostEventService(PostDeltaApplyService postDeltaApplyService, PostScoreDeltaPort postScoreDeltaPort,
+							RedissonClient redissonClient, MeterRegistry meterRegistry) {
+		this.postDeltaApplyService = postDeltaApplyService;
+		this.postScoreDeltaPort = postScoreDeltaPort;
+		this.redissonClient = redissonClient;
+		this.flushTimer = meterRegistry.timer("post.score.flush");
+		this.flushIntervalTimer = meterRegistry.timer("post.score.flush.interval");
+		this.flushLagTimer = meterRegistry.timer("post.score.flush.lag");
+	}
 
 	@Override
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handlePostScoreUpdate(InteractionScoreEvent event) {
 		log.debug("게시글 점수 이벤트 수신완료: targetId={}", event.targetId());
 
-		Post post = postUsecase.getPostEntityOrThrow(event.targetId());
-		post.updateScore(event.scoreDelta());
+		postScoreDeltaPort.add(event.targetId(), event.scoreDelta());
+	}
+
+	@Override
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleCommentCountUpdate(PostCommentCountEvent event) {
+		log.debug("게시글 댓글 수 이벤트 수신완료: postId={}, delta={}", event.postId(), event.delta());
+
+		postScoreDeltaPort.addCommentCount(event.postId(), event.delta());
+	}
+
+	/**
+	 * 처리 중 누적분은 반영 트랜잭션이 커밋된 뒤에 삭제하므로 실패하면 다음 주기에 다시 반영됩니다
+	 */
+	@Override
+	public void flushScoreDeltas() {
+		postScoreDeltaPort.publish();
+
+		RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+		try {
+			if (!lock.tryLock(0, FLUSH_LOCK_LEASE.toMillis(), TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		try {
+			PostScoreDeltaPort.Claimed claimed = postScoreDeltaPort.claim();
+			if (claimed.isEmpty()) {
+				return;
+			}
+
+			long startNanos = System.nanoTime();
+			postDeltaApplyService.applyScoreDeltas(claimed.deltas(), claimed.commentDeltas());
+			postScoreDeltaPort.complete();
+			long endNanos = System.nanoTime();
+
+			flushTimer.record(endNanos - startNanos, TimeUnit.NANOSECONDS);
+			if (lastFlushedNanos != 0L) {
+				flushIntervalTimer.record(endNanos - lastFlushedNanos, TimeUnit.NANOSECONDS);
+			}
+			lastFlushedNanos = endNanos;
+			if (claimed.oldestAt() != null) {
+				flushLagTimer.record(Duration.between(claimed.oldestAt(), Instant.now()));
+			}
+			log.debug("점수 증감을 반영했습니다: posts={}, commentPosts={}", claimed.deltas().size(), claimed.commentDeltas().size());
+		} catch (Exception e) {
+			// 처리 중 누적분은 남겨 두고 다음 주기에 다시 반영합니다
+			log.error("점수 증감 반영 중 오류가 발생했습니다", e);
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
 	}
 
 }
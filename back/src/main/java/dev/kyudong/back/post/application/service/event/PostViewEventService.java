@@ -1,17 +1,21 @@
 package dev.kyudong.back.post.application.service.event;
 
 import dev.kyudong.back.post.application.port.in.event.PostViewEventUsecase;
-import dev.kyudong.back.post.application.port.in.web.PostUsecase;
+import dev.kyudong.back.post.application.port.out.web.PostViewCountPort;
 import dev.kyudong.back.post.application.port.out.web.PostViewPersistencePort;
 import dev.kyudong.back.post.domain.dto.event.PostViewIncreaseWithGuestEvent;
 import dev.kyudong.back.post.domain.dto.event.PostViewIncreaseWithUserEvent;
-import dev.kyudong.back.post.domain.entity.Post;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -19,30 +23,65 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class PostViewEventService implements PostViewEventUsecase {
 
+	private static final String FLUSH_LOCK_KEY = "post:view_counts:lock";
+	private static final Duration FLUSH_LOCK_LEASE = Duration.ofMinutes(1);
+
 	private final PostViewPersistencePort postViewPersistencePort;
-	private final PostUsecase postUsecase;
-	private final StringRedisTemplate redisTemplate;
+	private final PostViewCountPort postViewCountPort;
+	private final PostDeltaApplyService postDeltaApplyService;
+	private final RedissonClient redissonClient;
 
 	@Override
-	@Transactional
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void increasePostViewWithUser(PostViewIncreaseWithUserEvent event) {
-		log.debug("로그인 사용자 게시글 조회수 증가 이벤트를 실행합니다: event={}", event);
+		log.debug("로그인 사용자 게시글 조회수 증가 이벤트를 실행합니다: postId={}", event.post().getId());
 
-		postViewPersistencePort.increaseViewCount(event.user(), event.post());
-		Post post = postUsecase.getPostEntityOrThrow(event.post().getId());
-		post.increaseCount();
+		postViewPersistencePort.recordView(event.user().getId(), event.post().getId(), Instant.now());
+		postViewCountPort.increase(event.post().getId());
 	}
 
 	@Override
-	@Transactional
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void increasePostViewWithGuest(PostViewIncreaseWithGuestEvent event) {
-		log.debug("비로그인 사용자 게시글 조회수 증가 이벤트를 실행합니다: event={}", event);
+		log.debug("비로그인 사용자 게시글 조회수 증가 이벤트를 실행합니다: postId={}", event.post().getId());
+
+		postViewCountPort.increaseGuest(event.post().getId(), event.guestId());
+	}
+
+	@Override
+	public void flushViewRecords() {
+		postViewPersistencePort.flush();
+	}
+
+	@Override
+	public void flushViewCounts() {
+		postViewCountPort.publish();
+
+		RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+		try {
+			if (!lock.tryLock(0, FLUSH_LOCK_LEASE.toMillis(), TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
 
-		String guestKey = "post:" + event.post().getId() + ":guestId:" + event.guestId();
-		if (Boolean.FALSE.equals(redisTemplate.hasKey(guestKey))) {
-			redisTemplate.opsForValue().set(guestKey, "viewed", 72, TimeUnit.HOURS);
-			Post post = postUsecase.getPostEntityOrThrow(event.post().getId());
-			post.increaseCount();
+		try {
+			Map<Long, Long> deltas = postViewCountPort.claim();
+			if (deltas.isEmpty()) {
+				return;
+			}
+			postDeltaApplyService.applyViewCounts(deltas);
+			postViewCountPort.complete();
+			log.debug("조회수를 반영했습니다: posts={}", deltas.size());
+		} catch (Exception e) {
+			// 처리 중 누적분은 남겨 두고 다음 주기에 다시 반영합니다
+			log.error("조회수 반영 중 오류가 발생했습니다", e);
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
 		}
 	}
 
@@ -13,6 +13,7 @@ import dev.kyudong.back.post.domain.dto.web.req.CommentUpdateReqDto;
 import dev.kyudong.back.post.domain.dto.web.res.*;
 import dev.kyudong.back.post.domain.entity.Comment;
 import dev.kyudong.back.post.domain.entity.CommentSort;
+import dev.kyudong.back.post.domain.entity.CommentStatus;
 import dev.kyudong.back.post.domain.entity.Post;
 import dev.kyudong.back.user.domain.User;
 import dev.kyudong.back.user.service.UserReaderService;
@@ -39,7 +40,7 @@ public class CommentService implements CommentUsecase {
 	public CommentListResDto findComments(Long postId, Long cursorId, CommentSort sort) {
 		log.debug("댓글 목록 조회 요청 시작: postId: {}", postId);
 
-		List<Comment> commentList = sort.equals(CommentSort.NEW)
+		List<CommentItemResDto> commentList = sort.equals(CommentSort.NEW)
 			 ? commentQueryPort.findByNewCommentByCursor(postId, cursorId)
 			 : commentQueryPort.findByOldCommentByCursor(postId, cursorId);
 
@@ -63,6 +64,7 @@ public class CommentService implements CommentUsecase {
 		Comment newComment = Comment.create(content, user);
 		post.addComment(newComment);
 		Comment savedComment = commentPersistencePort.save(newComment);
+		postUsecase.increaseCommentCount(postId);
 
 		log.debug("댓글 생성 성공: postId: {}, commentId: {}", postId, savedComment.getId());
 		return CommentCreateResDto.from(savedComment);
@@ -95,6 +97,7 @@ public class CommentService implements CommentUsecase {
 
 		validatePermission(comment.getUser().getId(), userId, commentId);
 
+		CommentStatus prevStatus = comment.getStatus();
 		switch (request.status()) {
 			case NORMAL -> comment.restore();
 			case DELETED -> comment.delete();
@@ -104,6 +107,14 @@ public class CommentService implements CommentUsecase {
 			}
 		}
 
+		if (prevStatus != comment.getStatus()) {
+			if (comment.getStatus() == CommentStatus.NORMAL) {
+				postUsecase.increaseCommentCount(postId);
+			} else {
+				postUsecase.decreaseCommentCount(postId);
+			}
+		}
+
 		log.debug("댓글 상태 수정 성공: userId: {}, postId: {}, status: {}", userId, comment.getId(), comment.getStatus().name());
 		return CommentStatusUpdateResDto.from(comment);
 	}
@@ -7,7 +7,9 @@ import dev.kyudong.back.post.adapter.out.persistence.exception.PostNotFoundExcep
 import dev.kyudong.back.post.application.port.in.web.TagUsecase;
 import dev.kyudong.back.post.application.port.out.event.PostEventPublishPort;
 import dev.kyudong.back.post.application.port.out.event.PostViewEventPublishPort;
+import dev.kyudong.back.post.application.port.out.web.PostInteractionCountPort;
 import dev.kyudong.back.post.application.port.out.web.PostPersistencePort;
+import dev.kyudong.back.post.application.port.out.web.PostSeenPort;
 import dev.kyudong.back.post.domain.dto.web.req.PostCreateReqDto;
 import dev.kyudong.back.post.domain.dto.web.req.PostStatusUpdateReqDto;
 import dev.kyudong.back.post.domain.dto.web.req.PostUpdateReqDto;
@@ -23,11 +25,12 @@ import dev.kyudong.back.user.domain.User;
 import dev.kyudong.back.user.service.UserReaderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RedissonClient;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 @Slf4j
@@ -41,7 +44,8 @@ public class PostService implements PostUsecase {
 	private final PostViewEventPublishPort postViewEventPublishPort;
 	private final PostPersistencePort postPersistencePort;
 	private final TagUsecase tagUsecase;
-	private final RedissonClient redissonClient;
+	private final PostSeenPort postSeenPort;
+	private final PostInteractionCountPort postInteractionCountPort;
 
 	@Override
 	@Transactional(readOnly = true)
@@ -53,10 +57,10 @@ public class PostService implements PostUsecase {
 		if (userId !=  null && !userId.equals(post.getUser().getId())) {
 			User user = userReaderService.getUserReference(userId);
 			postViewEventPublishPort.increasePostViewWithUser(user, post);
-			redissonClient.getBloomFilter("feed_seen:user" + userId).add(postId);
+			postSeenPort.markSeenByUser(userId, postId);
 		}
 
-		return PostDetailResDto.from(post);
+		return PostDetailResDto.from(post, postInteractionCountPort.findInteractionCounts(postId));
 	}
 
 	@Override
@@ -66,9 +70,9 @@ public class PostService implements PostUsecase {
 
 		Post post = postPersistencePort.findByIdOrThrow(postId);
 		postViewEventPublishPort.increasePostViewWithGuest(guestId, post);
-		redissonClient.getBloomFilter("feed_seen:guest" + guestId).add(postId);
+		postSeenPort.markSeenByGuest(guestId, postId);
 
-		return PostDetailResDto.from(post);
+		return PostDetailResDto.from(post, postInteractionCountPort.findInteractionCounts(postId));
 	}
 
 	@Override
@@ -109,6 +113,7 @@ public class PostService implements PostUsecase {
 		post.addTags(tags);
 
 		postEventPublishPort.postUpdateEventPublish(post, request.fileIds());
+		postEventPublishPort.postChangeEventPublish(post.getId());
 
 		log.debug("게시글 수정 요청 성공: userId={}, postId={}", userId, post.getId());
 		return PostUpdateResDto.from(post);
@@ -131,15 +136,49 @@ public class PostService implements PostUsecase {
 				throw new InvalidInputException("PostStatus Cant not be update");
 			}
 		}
+		postEventPublishPort.postChangeEventPublish(post.getId());
 
 		log.debug("게시글 상태를 수정했습니다: userId={}, postId={}, prevStatus={} curStatus={}", post.getUser().getId(), post.getId(), prevStatus, post.getStatus().name());
 		return PostStatusUpdateResDto.from(post);
 	}
 
+	/**
+	 * 댓글 수 증감은 커밋 후 점수 증감과 함께 모아 두었다가 한 번에 반영합니다
+	 */
+	@Override
+	public void increaseCommentCount(Long postId) {
+		postEventPublishPort.postCommentCountEventPublish(postId, 1L);
+	}
+
+	@Override
+	public void decreaseCommentCount(Long postId) {
+		postEventPublishPort.postCommentCountEventPublish(postId, -1L);
+	}
+
+	@Override
+	@Transactional
+	public void refreshHotScore(Long postId) {
+		postPersistencePort.refreshHotScore(postId);
+	}
+
+	/**
+	 * 시간 감쇠가 진행 중인 게시글의 인기 점수를 다시 계산합니다
+	 */
+	@Override
+	@Transactional
+	public void refreshHotScores() {
+		int updated = postPersistencePort.refreshHotScores(Instant.now().minus(8, ChronoUnit.DAYS));
+		log.debug("인기 점수 갱신 완료: updated={}", updated);
+	}
+
+	/**
+	 * 비정규화된 댓글 수를 실제 정상 댓글 수와 맞춥니다
+	 */
 	@Override
 	@Transactional
-	public void refreshRandomOldPost() {
-		postPersistencePort.refreshRandomOldPost();
+	public void reconcileCommentCounts() {
+		int updated = postPersistencePort.reconcileCommentCounts();
+		log.info("댓글 수 보정 완료: updated={}", updated);
 	}
 
 	/**
@@ -0,0 +1,10 @@
+package dev.kyudong.back.post.domain.dto.event;
+
+/**
+ * 피드 카드에 노출되는 게시글 정보(본문, 상태, 댓글 수, 점수)가 바뀌었을 때 발행됩니다
+ * @param postId	게시글 아이디
+ */
+public record PostChangeFeedEvent(
+		Long postId
+) {
+}
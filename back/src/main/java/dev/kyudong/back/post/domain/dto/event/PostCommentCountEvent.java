@@ -0,0 +1,12 @@
+package dev.kyudong.back.post.domain.dto.event;
+
+/**
+ * 댓글이 작성되거나 삭제, 복구되어 게시글의 댓글 수가 바뀌었을 때 발행됩니다
+ * @param postId	게시글 아이디
+ * @param delta		댓글 수 증감
+ */
+public record PostCommentCountEvent(
+		Long postId,
+		long delta
+) {
+}
@@ -1,8 +1,8 @@
 package dev.kyudong.back.post.domain.dto.web.res;
 
-import dev.kyudong.back.post.domain.entity.Comment;
 import dev.kyudong.back.post.domain.entity.CommentStatus;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 
@@ -10,7 +10,14 @@ public record CommentItemResDto(
 		CommentAuthor author,
 		CommentContent content
 ) {
-	public static CommentItemResDto from(Comment comment) {
-		return new CommentItemResDto(CommentAuthor.from(comment), CommentContent.from(comment));
+	/**
+	 * 댓글 목록 조회 쿼리의 프로젝션 결과로 생성합니다
+	 */
+	public CommentItemResDto(Long commentId, Long authorId, String username,
+							 String content, CommentStatus status, Instant createdAt) {
+		this(
+				new CommentAuthor(authorId, username),
+				new CommentContent(commentId, content, status, LocalDateTime.ofInstant(createdAt, ZoneOffset.UTC))
+		);
 	}
 }
@@ -1,7 +1,5 @@
 package dev.kyudong.back.post.domain.dto.web.res;
 
-import dev.kyudong.back.post.domain.entity.Comment;
-
 import java.util.Collections;
 import java.util.List;
 
@@ -13,15 +11,14 @@ public record CommentListResDto(
 	public static CommentListResDto empty() {
 		return new CommentListResDto(false, 0L, Collections.emptyList());
 	}
-	public static CommentListResDto from(List<Comment> commentList) {
+	public static CommentListResDto from(List<CommentItemResDto> commentList) {
 		boolean hasNext = commentList.size() > 20;
 
 		List<CommentItemResDto> comments = commentList.stream()
-				.map(CommentItemResDto::from)
 				.limit(20)
 				.toList();
 
-		Long cursorId = commentList.get(comments.size() - 1).getId();
+		Long cursorId = comments.get(comments.size() - 1).content().id();
 		return new CommentListResDto(hasNext, cursorId, comments);
 	}
 }
@@ -1,10 +1,12 @@
 package dev.kyudong.back.post.domain.dto.web.res;
 
+import dev.kyudong.back.interaction.domain.InteractionType;
 import dev.kyudong.back.post.domain.entity.Post;
 import dev.kyudong.back.post.domain.entity.PostStatus;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Map;
 
 public record PostDetailResDto(
 		long postId,
@@ -14,15 +16,17 @@ public record PostDetailResDto(
 		String content,
 		PostStatus status,
 		LocalDateTime createdAt,
-		LocalDateTime modifiedAt
+		LocalDateTime modifiedAt,
+		Map<InteractionType, Long> interactionCounts
 ) {
-	public static PostDetailResDto from(Post post) {
+	public static PostDetailResDto from(Post post, Map<InteractionType, Long> interactionCounts) {
 		return new PostDetailResDto(
 				post.getId(), post.getUser().getId(),
 				post.getViewCount(),
 				post.getSubject(), post.getContent(), post.getStatus(),
 				LocalDateTime.ofInstant(post.getCreatedAt(), ZoneOffset.UTC),
-				LocalDateTime.ofInstant(post.getModifiedAt(), ZoneOffset.UTC)
+				LocalDateTime.ofInstant(post.getModifiedAt(), ZoneOffset.UTC),
+				interactionCounts
 		);
 	}
 }
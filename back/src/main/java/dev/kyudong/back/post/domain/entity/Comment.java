@@ -16,7 +16,9 @@ import java.time.Instant;
 @Entity
 @Getter
 @ToString(exclude = {"post", "user"}) // post, user 무한 참조 방지
-@Table(name = "COMMENTS")
+@Table(name = "COMMENTS", indexes = {
+		@Index(name = "IDX_COMMENTS_POST_ID_ID", columnList = "POST_ID, ID")
+})
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
@@ -4,6 +4,7 @@ import dev.kyudong.back.common.exception.InvalidInputException;
 import dev.kyudong.back.user.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
@@ -17,7 +18,9 @@ import java.util.*;
 @Entity
 @Getter
 @ToString(exclude = {"user"})
-@Table(name = "POSTS")
+@Table(name = "POSTS", indexes = {
+		@Index(name = "IDX_POSTS_STATUS_HOT_SCORE", columnList = "STATUS, HOT_SCORE")
+})
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
@@ -38,12 +41,34 @@ public class Post {
 	@Column(name = "CONTENT", nullable = false, columnDefinition = "jsonb")
 	private String content;
 
-	@Column(name = "POST_VIEW_COUNT")
+	/**
+	 * 조회수는 메모리와 Redis에 모았다가 일괄 증감 쿼리로만 반영하므로 엔티티로는 수정하지 않습니다.
+	 */
+	@Column(name = "POST_VIEW_COUNT", updatable = false)
 	private long viewCount;
 
-	@Column(name = "POST_SCORE")
+	/**
+	 * 상호작용 점수는 게시글별로 모았다가 일괄 증감 쿼리로만 반영하므로 엔티티로는 수정하지 않습니다.
+	 */
+	@Column(name = "POST_SCORE", updatable = false)
 	private double score;
 
+	/**
+	 * 정상 상태 댓글 수의 비정규화 값입니다.
+	 * 동시 갱신 유실을 막기 위해 엔티티로는 수정하지 않고 {@code PostRepository}의 원자적 증감 쿼리로만 갱신합니다.
+	 */
+	@ColumnDefault("0")
+	@Column(name = "COMMENT_COUNT", nullable = false, updatable = false)
+	private long commentCount;
+
+	/**
+	 * 시간 감쇠가 반영된 인기 점수입니다, {@link #calculateHotScore}와 같은 식을 SQL로 계산해 저장합니다.
+	 * 인기 게시글 조회가 (STATUS, HOT_SCORE) 인덱스를 타도록 엔티티로는 수정하지 않습니다.
+	 */
+	@ColumnDefault("0")
+	@Column(name = "HOT_SCORE", nullable = false, updatable = false)
+	private double hotScore;
+
 	@ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
 	@JoinTable(
 			name = "POST_CATEGORY",
@@ -84,13 +109,30 @@ public class Post {
 		this.content = content;
 		this.status = PostStatus.NORMAL;
 		this.viewCount = 0L;
+		this.commentCount = 0L;
 		this.score = 100.0D;
+		this.hotScore = calculateHotScore(0L, 0L, this.score, 0L);
 	}
 
 	public static Post create(String subject, String content) {
 		return new Post(subject, content);
 	}
 
+	/**
+	 * 조회수, 댓글 수, 상호작용 점수로 인기도를 구하고 생성 후 일주일에 걸쳐 감쇠시킵니다.
+	 * {@code PostRepository}의 HOT_SCORE 계산식과 같아야 합니다
+	 * @param viewCount				조회수
+	 * @param commentCount			댓글 수
+	 * @param score					상호작용 점수
+	 * @param hoursSinceCreation	생성 후 지난 시간(시간 단위)
+	 * @return 인기 점수
+	 */
+	public static double calculateHotScore(long viewCount, long commentCount, double score, long hoursSinceCreation) {
+		double popularityScore = (viewCount * 0.1) + score + (commentCount * 1.2) + 1;
+		double recencyWeight = Math.max(0.1, 1.0 - (hoursSinceCreation / (24.0 * 7)));
+		return popularityScore * recencyWeight;
+	}
+
 	public void updateSubject(String subject) {
 		validSubject(subject);
 		this.subject = subject;
@@ -124,14 +166,6 @@ public class Post {
 		this.status = PostStatus.NORMAL;
 	}
 
-	public void increaseCount() {
-		this.viewCount++;
-	}
-
-	public void updateScore(double score) {
-		this.score += score;
-	}
-
 	/**
 	 * addPost를 이용한 호출을 권장합니다.
 	 * @param user 게시글 소유자.
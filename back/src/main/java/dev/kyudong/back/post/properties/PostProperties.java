@@ -0,0 +1,31 @@
+package dev.kyudong.back.post.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "post")
+public record PostProperties(
+		View view,
+		Score score
+) {
+	/**
+	 * 로그인 사용자 조회 기록 쓰기 설정
+	 * @param queueCapacity	DB에 쓰기 전 모아 둘 최대 조회 기록 수, 넘치면 버립니다
+	 * @param flushSize		한 번의 INSERT 문에 담을 최대 조회 기록 수
+	 * @param flushInterval	모아 둔 조회 기록을 쓰는 주기
+	 */
+	public record View(
+			int queueCapacity,
+			int flushSize,
+			Duration flushInterval
+	) {}
+
+	/**
+	 * 상호작용 점수 반영 설정
+	 * @param flushInterval	모아 둔 점수 증감을 반영하는 주기
+	 */
+	public record Score(
+			Duration flushInterval
+	) {}
+}
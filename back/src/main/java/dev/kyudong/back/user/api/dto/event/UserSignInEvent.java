@@ -0,0 +1,9 @@
+package dev.kyudong.back.user.api.dto.event;
+
+public record UserSignInEvent(
+		Long userId
+) {
+	public static UserSignInEvent of(Long userId) {
+		return new UserSignInEvent(userId);
+	}
+}
@@ -4,6 +4,7 @@ import dev.kyudong.back.common.exception.InvalidInputException;
 import dev.kyudong.back.common.jwt.JwtUtil;
 import dev.kyudong.back.user.api.dto.UserLoginDto;
 import dev.kyudong.back.user.api.dto.UserReissueDto;
+import dev.kyudong.back.user.api.dto.event.UserSignInEvent;
 import dev.kyudong.back.user.api.dto.req.UserLoginReqDto;
 import dev.kyudong.back.user.api.dto.res.UserValidateResDto;
 import dev.kyudong.back.user.domain.User;
@@ -16,6 +17,7 @@ import dev.kyudong.back.user.security.CustomUserPrincipal;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -30,6 +32,7 @@ public class UserAuthService {
 	private final PasswordEncoder passwordEncoder;
 	private final JwtUtil jwtUtil;
 	private final UserTokenRepository userTokenRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional(readOnly = true)
 	public UserLoginDto login(UserLoginReqDto request) {
@@ -54,6 +57,7 @@ public class UserAuthService {
 		UserValidateResDto response = UserValidateResDto.from(jwtUtil.createAccessToken(user));
 		String refreshToken = jwtUtil.createRefreshToken(user);
 		userTokenRepository.saveToken(request.username(), refreshToken);
+		eventPublisher.publishEvent(UserSignInEvent.of(user.getId()));
 
 		log.debug("사용자 로그인 요청 성공: id={}, status={}", user.getId(), user.getStatus());
 		return UserLoginDto.from(response, refreshToken);
@@ -96,6 +100,7 @@ public class UserAuthService {
 		String newRefreshToken = jwtUtil.createRefreshToken(user);
 
 		userTokenRepository.saveToken(username, newRefreshToken);
+		eventPublisher.publishEvent(UserSignInEvent.of(user.getId()));
 		UserValidateResDto reissueDto = UserValidateResDto.from(newAccessToken);
 
 		log.debug("토큰이 다시 발급되었습니다: username={}", username);
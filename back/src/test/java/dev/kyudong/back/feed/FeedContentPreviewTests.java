@@ -0,0 +1,82 @@
+package dev.kyudong.back.feed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.kyudong.back.feed.service.FeedContentPreview;
+import dev.kyudong.back.testhelper.base.UnitTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeedContentPreviewTests extends UnitTestBase {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final FeedContentPreview feedContentPreview = new FeedContentPreview(objectMapper);
+
+	@Test
+	@DisplayName("본문 미리보기 - 짧은 본문은 그대로 사용")
+	void preview_shortContent() throws Exception {
+		// given
+		String content = document(List.of(paragraph("짧은 본문")));
+
+		// when
+		String preview = feedContentPreview.preview(content);
+
+		// then
+		assertThat(preview).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("본문 미리보기 - 앞쪽 블록만 남기고 글자 수를 제한")
+	void preview_trimsBlocksAndText() throws Exception {
+		// given
+		List<Map<String, Object>> blocks = IntStream.range(0, 10)
+				.mapToObj(i -> paragraph("가".repeat(100)))
+				.toList();
+		String content = document(blocks);
+
+		// when
+		String preview = feedContentPreview.preview(content);
+
+		// then
+		JsonNode previewBlocks = objectMapper.readTree(preview).get("content");
+		assertThat(previewBlocks.size()).isEqualTo(3);
+		int textLength = 0;
+		for (JsonNode block : previewBlocks) {
+			textLength += block.get("content").get(0).get("text").asText().length();
+		}
+		assertThat(textLength).isEqualTo(300);
+		assertThat(preview.length()).isLessThan(content.length());
+	}
+
+	@Test
+	@DisplayName("본문 미리보기 - 읽을 수 없는 긴 본문은 빈 문서")
+	void preview_invalidContent() {
+		// given
+		String content = "{" + "x".repeat(2_000);
+
+		// when
+		String preview = feedContentPreview.preview(content);
+
+		// then
+		assertThat(preview).isEqualTo("{\"type\":\"doc\",\"content\":[]}");
+	}
+
+	private String document(List<Map<String, Object>> blocks) throws Exception {
+		return objectMapper.writeValueAsString(Map.of("type", "doc", "content", blocks));
+	}
+
+	private static Map<String, Object> paragraph(String text) {
+		return Map.of(
+				"type", "paragraph",
+				"content", List.of(Map.of("type", "text", "text", text))
+		);
+	}
+
+}
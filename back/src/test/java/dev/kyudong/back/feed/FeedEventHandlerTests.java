@@ -1,26 +1,34 @@
 package dev.kyudong.back.feed;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import dev.kyudong.back.feed.domain.Feed;
 import dev.kyudong.back.feed.event.DefaulteedEventHandler;
-import dev.kyudong.back.feed.repository.FeedRepository;
-import dev.kyudong.back.follow.domain.Follow;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.feed.repository.FeedInboxRepository;
+import dev.kyudong.back.feed.service.FeedCardCache;
+import dev.kyudong.back.feed.service.FeedPrewarmer;
 import dev.kyudong.back.follow.repository.FollowRepository;
+import dev.kyudong.back.post.domain.dto.event.PostChangeFeedEvent;
 import dev.kyudong.back.post.domain.dto.event.PostCreateFeedEvent;
 import dev.kyudong.back.post.domain.entity.Post;
 import dev.kyudong.back.testhelper.base.UnitTestBase;
+import dev.kyudong.back.testhelper.fixture.FeedPropertiesFixture;
+import dev.kyudong.back.user.api.dto.event.UserSignInEvent;
 import dev.kyudong.back.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.*;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 public class FeedEventHandlerTests extends UnitTestBase {
 
@@ -28,46 +36,108 @@ public class FeedEventHandlerTests extends UnitTestBase {
 	private FollowRepository followRepository;
 
 	@Mock
-	private FeedRepository feedRepository;
+	private FeedInboxRepository feedInboxRepository;
+
+	@Mock
+	private FeedCardCache feedCardCache;
+
+	@Mock
+	private FeedPrewarmer feedPrewarmer;
 
 	// 빠른 테스트를 위해 구현체로 테스트
-	@InjectMocks
 	private DefaulteedEventHandler defaulteedEventHandler;
 
+	@BeforeEach
+	void setUp() {
+		FeedProperties feedProperties = FeedPropertiesFixture.builder()
+				.inbox(new FeedProperties.Inbox(500, 100, Duration.ofDays(14)))
+				.build();
+		defaulteedEventHandler = new DefaulteedEventHandler(
+				feedInboxRepository, followRepository, feedProperties, feedCardCache, feedPrewarmer);
+	}
+
 	@Test
 	@DisplayName("피드 생성 이벤트 - 성공")
 	void handlePostCreateEvent_success() throws JsonProcessingException {
 		// given
 		User mockFollowing = createMockUser("cnzn1d", 999L);
 		Post mockPost = createMockPost(mockFollowing);
-		User mockFollower1 = createMockUser("ckzxv2", 1L);
-		User mockFollower2 = createMockUser("ccxvn1sd", 2L);
-		User mockFollower3 = createMockUser("ckj31zz", 3L);
+		PostCreateFeedEvent event = new PostCreateFeedEvent(mockPost, mockFollowing);
+
+		given(followRepository.countFollowers(mockFollowing.getId())).willReturn(3L);
+		given(followRepository.findFollowerIds(mockFollowing.getId())).willReturn(List.of(1L, 2L, 3L));
+
+		ArgumentCaptor<List<Long>> followerIdsCaptor = ArgumentCaptor.forClass(List.class);
 
-		Follow follow1 = createMockFollow(mockFollower1, mockFollowing, 1L);
-		Follow follow2 = createMockFollow(mockFollower2, mockFollowing, 2L);
-		Follow follow3 = createMockFollow(mockFollower3, mockFollowing, 3L);
-		List<Follow> mockFollows = List.of(follow1, follow2, follow3);
+		// when
+		defaulteedEventHandler.handlePostCreate(event);
 
+		// then
+		then(feedInboxRepository).should().unmarkPullAuthor(mockFollowing.getId());
+		then(feedInboxRepository).should().push(followerIdsCaptor.capture(), eq(mockPost.getId()), any(Instant.class));
+		assertThat(followerIdsCaptor.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("피드 생성 이벤트 - 팔로워가 많은 작성자는 pull 방식으로 전환")
+	void handlePostCreateEvent_pullAuthor() throws JsonProcessingException {
+		// given
+		User mockFollowing = createMockUser("cnzn1d", 999L);
+		Post mockPost = createMockPost(mockFollowing);
 		PostCreateFeedEvent event = new PostCreateFeedEvent(mockPost, mockFollowing);
 
-		given(followRepository.findByFollowingWithFollower(mockFollowing))
-				.willReturn(mockFollows);
+		given(followRepository.countFollowers(mockFollowing.getId())).willReturn(100L);
+
+		// when
+		defaulteedEventHandler.handlePostCreate(event);
+
+		// then
+		then(feedInboxRepository).should().markPullAuthor(mockFollowing.getId());
+		then(followRepository).should(never()).findFollowerIds(anyLong());
+		then(feedInboxRepository).should(never()).push(anyList(), anyLong(), any(Instant.class));
+	}
+
+	@Test
+	@DisplayName("피드 생성 이벤트 - 팔로워 없음")
+	void handlePostCreateEvent_noFollower() throws JsonProcessingException {
+		// given
+		User mockFollowing = createMockUser("cnzn1d", 999L);
+		Post mockPost = createMockPost(mockFollowing);
+		PostCreateFeedEvent event = new PostCreateFeedEvent(mockPost, mockFollowing);
 
-		ArgumentCaptor<List<Feed>> feedListCaptor = ArgumentCaptor.forClass(List.class);
+		given(followRepository.countFollowers(mockFollowing.getId())).willReturn(0L);
 
 		// when
 		defaulteedEventHandler.handlePostCreate(event);
 
 		// then
-		verify(feedRepository).saveAll(feedListCaptor.capture());
-		List<Feed> capturedFeeds = feedListCaptor.getValue();
-
-		assertThat(capturedFeeds.size()).isEqualTo(3);
-		List<Long> capturedUserIds = capturedFeeds.stream()
-				.map(feed -> feed.getUser().getId())
-				.toList();
-		assertThat(capturedUserIds).containsExactlyInAnyOrder(1L, 2L, 3L);
+		then(feedInboxRepository).should(never()).push(anyList(), anyLong(), any(Instant.class));
+	}
+
+	@Test
+	@DisplayName("게시글 변경 이벤트 - 피드 카드 무효화")
+	void handlePostChangeEvent_success() {
+		// given
+		PostChangeFeedEvent event = new PostChangeFeedEvent(1L);
+
+		// when
+		defaulteedEventHandler.handlePostChange(event);
+
+		// then
+		then(feedCardCache).should().evict(1L);
+	}
+
+	@Test
+	@DisplayName("로그인 이벤트 - 피드 미리 생성")
+	void handleUserSignInEvent_success() {
+		// given
+		UserSignInEvent event = UserSignInEvent.of(1L);
+
+		// when
+		defaulteedEventHandler.handleUserSignIn(event);
+
+		// then
+		then(feedPrewarmer).should().prewarm(1L);
 	}
 
 }
@@ -0,0 +1,38 @@
+package dev.kyudong.back.feed;
+
+import dev.kyudong.back.feed.repository.FeedIdCodec;
+import dev.kyudong.back.testhelper.base.UnitTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeedIdCodecTests extends UnitTestBase {
+
+	@Test
+	@DisplayName("피드 아이디 인코딩 - 순서가 섞인 아이디 구간 조회")
+	void decodeRange_success() {
+		// given
+		long[] postIds = {1_000_000L, 3L, 999_999L, Long.MAX_VALUE, 42L, 1L};
+		byte[] encoded = FeedIdCodec.encode(postIds);
+
+		// when
+		long[] range = FeedIdCodec.decode(encoded, 2, 3);
+
+		// then
+		assertThat(FeedIdCodec.size(encoded)).isEqualTo(6);
+		assertThat(range).containsExactly(999_999L, Long.MAX_VALUE, 42L);
+	}
+
+	@Test
+	@DisplayName("피드 아이디 인코딩 - 범위를 벗어난 조회")
+	void decodeRange_outOfRange() {
+		// given
+		byte[] encoded = FeedIdCodec.encode(new long[]{10L, 11L, 12L});
+
+		// when & then
+		assertThat(FeedIdCodec.decode(encoded, 2, 20)).containsExactly(12L);
+		assertThat(FeedIdCodec.decode(encoded, 5, 20)).isEmpty();
+	}
+
+}
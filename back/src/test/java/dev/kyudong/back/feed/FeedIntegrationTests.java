@@ -1,11 +1,13 @@
 package dev.kyudong.back.feed;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
 import dev.kyudong.back.testhelper.base.IntegrationTestBase;
 import dev.kyudong.back.common.interceptor.GuestIdInterceptor;
 import dev.kyudong.back.common.jwt.JwtUtil;
 import dev.kyudong.back.feed.api.dto.res.FeedItemResDto;
 import dev.kyudong.back.feed.api.dto.res.FeedListResDto;
+import dev.kyudong.back.feed.properties.FeedProperties;
 import dev.kyudong.back.follow.domain.Follow;
 import dev.kyudong.back.follow.repository.FollowRepository;
 import dev.kyudong.back.post.adapter.out.persistence.repository.CategoryRepository;
@@ -22,7 +24,6 @@ import jakarta.persistence.EntityTransaction;
 import jakarta.persistence.Query;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.*;
-import org.redisson.api.RList;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -34,6 +35,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.shaded.org.awaitility.Awaitility;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -58,6 +60,9 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 	@Autowired
 	private MockMvc mockMvc;
 
+	@Autowired
+	private FeedProperties feedProperties;
+
 	@Autowired
 	private FollowRepository followRepository;
 
@@ -222,7 +227,7 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 	void findFeeds_withUser() throws Exception {
 		// given
 		String feedKey = "feed:user:" + testUser.getId();
-		redissonClient.getList(feedKey).clear();
+		redissonClient.getBucket(feedKey + ":head").delete();
 
 		// when
 		MvcResult result = mockMvc.perform(get("/api/v1/feeds")
@@ -235,17 +240,13 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 		Awaitility.await()
 				.atMost(5, TimeUnit.SECONDS)
 				.pollInterval(100, TimeUnit.MILLISECONDS)
-				.until(() -> {
-					RList<String> feedCache = redissonClient.getList(feedKey);
-					return !feedCache.isEmpty();
-				});
+				.until(() -> redissonClient.getBucket(feedKey + ":head").isExists());
 
 		String responseBody = result.getResponse().getContentAsString();
 		FeedListResDto response = objectMapper.readValue(responseBody, FeedListResDto.class);
 		assertThat(response.content()).doesNotHaveDuplicates();
 
-		RList<String> feedCache = redissonClient.getList(feedKey);
-		assertThat(feedCache.readAll()).isNotEmpty();
+		assertThat(redissonClient.getBucket(feedKey + ":head").isExists()).isTrue();
 	}
 
 	@Test
@@ -254,7 +255,7 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 	void findFeeds_withUser_paging() throws Exception {
 		// given
 		String feedKey = "feed:user:" + testUser.getId();
-		redissonClient.getList(feedKey).clear();
+		redissonClient.getBucket(feedKey + ":head").delete();
 
 		MvcResult result = mockMvc.perform(get("/api/v1/feeds")
 						.header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.createAccessToken(testUser)))
@@ -265,21 +266,18 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 		Awaitility.await()
 				.atMost(5, TimeUnit.SECONDS)
 				.pollInterval(100, TimeUnit.MILLISECONDS)
-				.until(() -> {
-					RList<String> feedCache = redissonClient.getList(feedKey);
-					return !feedCache.isEmpty();
-				});
+				.until(() -> redissonClient.getBucket(feedKey + ":head").isExists());
 
 		String responseBody = result.getResponse().getContentAsString();
 		FeedListResDto response = objectMapper.readValue(responseBody, FeedListResDto.class);
 		List<FeedItemResDto> firstPage = response.content();
 
-		int page = response.nextPage();
+		String cursor = response.nextCursor();
 
 		// when
 		result = mockMvc.perform(get("/api/v1/feeds")
 						.header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.createAccessToken(testUser))
-						.param("page", String.valueOf(page)))
+						.param("cursor", cursor))
 				.andExpect(status().isOk())
 				.andDo(print())
 				.andReturn();
@@ -299,8 +297,8 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 		// given
 		String guestId = UUID.randomUUID().toString();
 		Cookie cookie = new Cookie(GuestIdInterceptor.GUEST_ID_COOKIE_NAME, guestId);
-		String feedKey = "feed:guest:" + guestId;
-		redissonClient.getList(feedKey).clear();
+		String feedKey = guestFeedKey(guestId);
+		redissonClient.getBucket(feedKey + ":head").delete();
 
 		// when
 		MvcResult result = mockMvc.perform(get("/api/v1/feeds")
@@ -313,17 +311,13 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 		Awaitility.await()
 				.atMost(5, TimeUnit.SECONDS)
 				.pollInterval(100, TimeUnit.MILLISECONDS)
-				.until(() -> {
-					RList<String> feedCache = redissonClient.getList(feedKey);
-					return !feedCache.isEmpty();
-				});
+				.until(() -> redissonClient.getBucket(feedKey + ":head").isExists());
 
 		String responseBody = result.getResponse().getContentAsString();
 		FeedListResDto response = objectMapper.readValue(responseBody, FeedListResDto.class);
 		assertThat(response.content()).doesNotHaveDuplicates();
 
-		RList<String> feedCache = redissonClient.getList(feedKey);
-		assertThat(feedCache.readAll()).isNotEmpty();
+		assertThat(redissonClient.getBucket(feedKey + ":head").isExists()).isTrue();
 	}
 
 	@Test
@@ -333,8 +327,8 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 		// given
 		String guestId = UUID.randomUUID().toString();
 		Cookie cookie = new Cookie(GuestIdInterceptor.GUEST_ID_COOKIE_NAME, guestId);
-		String feedKey = "feed:guest:" + guestId;
-		redissonClient.getList(feedKey).clear();
+		String feedKey = guestFeedKey(guestId);
+		redissonClient.getBucket(feedKey + ":head").delete();
 
 		MvcResult result = mockMvc.perform(get("/api/v1/feeds")
 						.cookie(cookie))
@@ -345,21 +339,18 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 		Awaitility.await()
 				.atMost(5, TimeUnit.SECONDS)
 				.pollInterval(100, TimeUnit.MILLISECONDS)
-				.until(() -> {
-					RList<String> feedCache = redissonClient.getList(feedKey);
-					return !feedCache.isEmpty();
-				});
+				.until(() -> redissonClient.getBucket(feedKey + ":head").isExists());
 
 		String responseBody = result.getResponse().getContentAsString();
 		FeedListResDto response = objectMapper.readValue(responseBody, FeedListResDto.class);
 		List<FeedItemResDto> firstPage = response.content();
 
-		int page = response.nextPage();
+		String cursor = response.nextCursor();
 
 		// when
 		result = mockMvc.perform(get("/api/v1/feeds")
 						.cookie(cookie)
-						.param("page", String.valueOf(page)))
+						.param("cursor", cursor))
 				.andExpect(status().isOk())
 				.andDo(print())
 				.andReturn();
@@ -372,4 +363,12 @@ public class FeedIntegrationTests extends IntegrationTestBase {
 		assertThat(firstPage).isNotEqualTo(secondPage);
 	}
 
+	/**
+	 * 게스트가 읽는 공용 게스트 피드 키를 계산합니다, 게스트 아이디 해시로 공용 피드 중 하나를 고릅니다
+	 */
+	private String guestFeedKey(String guestId) {
+		int hash = Hashing.murmur3_32_fixed().hashString(guestId, StandardCharsets.UTF_8).asInt();
+		return "feed:guest:variant:" + Math.floorMod(hash, feedProperties.guest().variants());
+	}
+
 }
@@ -0,0 +1,52 @@
+package dev.kyudong.back.feed;
+
+import dev.kyudong.back.feed.api.dto.FeedCandidate;
+import dev.kyudong.back.feed.api.dto.ItemWithScore;
+import dev.kyudong.back.feed.service.FeedInterleaver;
+import dev.kyudong.back.testhelper.base.UnitTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FeedInterleaverTests extends UnitTestBase {
+
+	@Test
+	@DisplayName("작성자 다양성 - 구간 내 작성자별 최대 게시글 수 제한")
+	void interleave_success() {
+		// given
+		List<ItemWithScore> ranked = List.of(
+				item(1L, 10L), item(2L, 10L), item(3L, 10L), item(4L, 10L),
+				item(5L, 20L), item(6L, 30L), item(7L, 20L)
+		);
+
+		// when
+		List<ItemWithScore> result = FeedInterleaver.interleave(ranked, 2, 4);
+
+		// then
+		assertThat(result).extracting(item -> item.candidate().postId())
+				.containsExactly(1L, 2L, 5L, 6L, 3L, 4L, 7L);
+	}
+
+	@Test
+	@DisplayName("작성자 다양성 - 제한을 지킬 수 없어도 게시글을 버리지 않음")
+	void interleave_keepsAllPosts() {
+		// given
+		List<ItemWithScore> ranked = List.of(item(1L, 10L), item(2L, 10L), item(3L, 10L), item(4L, 20L));
+
+		// when
+		List<ItemWithScore> result = FeedInterleaver.interleave(ranked, 1, 3);
+
+		// then
+		assertThat(result).extracting(item -> item.candidate().postId())
+				.containsExactly(1L, 4L, 2L, 3L);
+	}
+
+	private static ItemWithScore item(long postId, long authorId) {
+		return new ItemWithScore(new FeedCandidate(postId, authorId, 0L, 0L, 0.0D, Instant.now()), 100.0D - postId);
+	}
+
+}
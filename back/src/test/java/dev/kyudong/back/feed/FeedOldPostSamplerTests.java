@@ -0,0 +1,165 @@
+package dev.kyudong.back.feed;
+
+import dev.kyudong.back.feed.api.dto.PostScoreDto;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.feed.service.FeedOldPostSampler;
+import dev.kyudong.back.post.application.port.out.web.PostFeedQueryPort;
+import dev.kyudong.back.testhelper.base.UnitTestBase;
+import dev.kyudong.back.testhelper.fixture.FeedPropertiesFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.redisson.api.*;
+import org.redisson.client.codec.LongCodec;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+public class FeedOldPostSamplerTests extends UnitTestBase {
+
+	@Mock
+	private PostFeedQueryPort postFeedQueryPort;
+
+	@Mock
+	private RedissonClient redissonClient;
+
+	@Mock
+	private RLock lock;
+
+	@Mock
+	private RBatch batch;
+
+	@Test
+	@DisplayName("오래된 게시글 표본 추출 - 점수가 높은 게시글이 더 자주 뽑힘")
+	void refresh_weightedSelection() throws InterruptedException {
+		// given
+		FeedOldPostSampler sampler = sampler(200, 1, 1000);
+		givenStaleAndLocked();
+		Map<String, RSetAsync<Long>> savedPools = givenBatch();
+		given(postFeedQueryPort.findOldPostScores(eq(0L), any(Instant.class), eq(1000)))
+				.willReturn(List.of(new PostScoreDto(1L, 99.0D), new PostScoreDto(2L, 0.0D)));
+
+		// when
+		sampler.refresh();
+
+		// then
+		// 가중치 100 대 1이므로 풀마다 1번 게시글이 뽑힐 확률은 100/101입니다
+		long highScorePools = LongStream.range(0, 200)
+				.filter(pool -> savedPool(savedPools, (int) pool).contains(1L))
+				.count();
+		assertThat(highScorePools).isGreaterThan(150L);
+	}
+
+	@Test
+	@DisplayName("오래된 게시글 표본 추출 - 아이디 순서로 나누어 읽고 풀마다 정해진 수만 유지")
+	void refresh_poolSizeBound() throws InterruptedException {
+		// given
+		FeedOldPostSampler sampler = sampler(4, 3, 4);
+		givenStaleAndLocked();
+		Map<String, RSetAsync<Long>> savedPools = givenBatch();
+		given(postFeedQueryPort.findOldPostScores(eq(0L), any(Instant.class), eq(4))).willReturn(posts(1, 4));
+		given(postFeedQueryPort.findOldPostScores(eq(4L), any(Instant.class), eq(4))).willReturn(posts(5, 8));
+		given(postFeedQueryPort.findOldPostScores(eq(8L), any(Instant.class), eq(4))).willReturn(posts(9, 10));
+
+		// when
+		sampler.refresh();
+
+		// then
+		for (int pool = 0; pool < 4; pool++) {
+			assertThat(savedPool(savedPools, pool))
+					.hasSize(3)
+					.allSatisfy(postId -> assertThat(postId).isBetween(1L, 10L));
+		}
+		then(postFeedQueryPort).should(never()).findOldPostScores(eq(10L), any(Instant.class), anyInt());
+	}
+
+	@Test
+	@DisplayName("오래된 게시글 표본 추출 - 다른 노드가 추출 중이면 건너뜀")
+	void refresh_skipWhenLocked() throws InterruptedException {
+		// given
+		FeedOldPostSampler sampler = sampler(4, 3, 4);
+		RSet<Long> firstPool = mock(RSet.class);
+		given(firstPool.remainTimeToLive()).willReturn(-2L);
+		given(redissonClient.<Long>getSet("feed:old_posts:0", LongCodec.INSTANCE)).willReturn(firstPool);
+		given(redissonClient.getLock(anyString())).willReturn(lock);
+		given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(false);
+
+		// when
+		sampler.refresh();
+
+		// then
+		then(postFeedQueryPort).should(never()).findOldPostScores(anyLong(), any(Instant.class), anyInt());
+		then(redissonClient).should(never()).createBatch(any(BatchOptions.class));
+	}
+
+	@Test
+	@DisplayName("오래된 게시글 조회 - 호출마다 다음 표본 풀을 읽음")
+	void draw_rotation() {
+		// given
+		FeedOldPostSampler sampler = sampler(6, 3, 4);
+		for (int pool = 0; pool < 6; pool++) {
+			RSet<Long> poolSet = mock(RSet.class);
+			given(poolSet.readAll()).willReturn(Set.of((long) pool));
+			given(redissonClient.<Long>getSet("feed:old_posts:" + pool, LongCodec.INSTANCE)).willReturn(poolSet);
+		}
+
+		// when
+		List<Set<Long>> draws = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			draws.add(sampler.draw());
+		}
+
+		// then
+		assertThat(new HashSet<>(draws.subList(0, 6))).hasSize(6);
+		assertThat(draws.get(6)).isEqualTo(draws.get(0));
+	}
+
+	private FeedOldPostSampler sampler(int pools, int poolSize, int chunkSize) {
+		FeedProperties feedProperties = FeedPropertiesFixture.builder()
+				.oldPosts(new FeedProperties.OldPosts(pools, poolSize, chunkSize, Duration.ofDays(180), Duration.ofHours(3)))
+				.build();
+		return new FeedOldPostSampler(postFeedQueryPort, redissonClient, feedProperties);
+	}
+
+	private void givenStaleAndLocked() throws InterruptedException {
+		RSet<Long> firstPool = mock(RSet.class);
+		given(firstPool.remainTimeToLive()).willReturn(-2L);
+		given(redissonClient.<Long>getSet("feed:old_posts:0", LongCodec.INSTANCE)).willReturn(firstPool);
+		given(redissonClient.getLock(anyString())).willReturn(lock);
+		given(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).willReturn(true);
+		given(lock.isHeldByCurrentThread()).willReturn(true);
+	}
+
+	private Map<String, RSetAsync<Long>> givenBatch() {
+		Map<String, RSetAsync<Long>> savedPools = new HashMap<>();
+		given(redissonClient.createBatch(any(BatchOptions.class))).willReturn(batch);
+		given(batch.<Long>getSet(anyString(), eq(LongCodec.INSTANCE))).willAnswer(invocation ->
+				savedPools.computeIfAbsent(invocation.getArgument(0), key -> mock(RSetAsync.class)));
+		return savedPools;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Set<Long> savedPool(Map<String, RSetAsync<Long>> savedPools, int pool) {
+		ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+		then(savedPools.get("feed:old_posts:" + pool)).should().addAllAsync(captor.capture());
+		return new HashSet<>(captor.getValue());
+	}
+
+	private static List<PostScoreDto> posts(long fromId, long toId) {
+		return LongStream.rangeClosed(fromId, toId)
+				.mapToObj(postId -> new PostScoreDto(postId, 0.0D))
+				.toList();
+	}
+
+}
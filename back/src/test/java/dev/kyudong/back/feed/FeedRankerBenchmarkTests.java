@@ -0,0 +1,161 @@
+package dev.kyudong.back.feed;
+
+import dev.kyudong.back.feed.api.dto.FeedCandidate;
+import dev.kyudong.back.feed.ranker.DefaultFeedRanker;
+import dev.kyudong.back.feed.ranker.FeedFeatures;
+import dev.kyudong.back.feed.ranker.FeedRanker;
+import dev.kyudong.back.testhelper.base.UnitTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고정된 후보 집합으로 순위 계산기들의 계산 시간과 상위 결과를 비교합니다.
+ * 새 순위 계산기를 추가했다면 {@link #rankers()}에 등록해 기본 계산기와 비교해주세요
+ */
+public class FeedRankerBenchmarkTests extends UnitTestBase {
+
+	private static final Logger log = LoggerFactory.getLogger(FeedRankerBenchmarkTests.class);
+
+	private static final long SEED = 20251018L;
+	private static final int CANDIDATE_SIZE = 2_000;
+	private static final int AUTHOR_SIZE = 300;
+	private static final int FOLLOWING_SIZE = 30;
+	private static final int TOP_K = 50;
+	private static final int WARMUP_ITERATIONS = 200;
+	private static final int MEASURE_ITERATIONS = 500;
+
+	private static final Instant NOW = Instant.parse("2025-10-18T00:00:00Z");
+
+	@Test
+	@DisplayName("순위 계산기 비교 - 고정 후보 집합에서 계산 시간과 기본 계산기 대비 상위 결과 겹침")
+	void compareRankers() {
+		// given
+		FeedFeatures features = fixture();
+		int[] baseline = topK(new DefaultFeedRanker(), features);
+
+		for (FeedRanker ranker : rankers()) {
+			// when
+			double[] scores = new double[features.size()];
+			long nanosPerOp = measure(ranker, features, scores);
+			int[] top = topK(ranker, features);
+
+			// then
+			assertThat(topK(ranker, features)).as("같은 후보라면 같은 순위여야 합니다: %s", ranker.name()).isEqualTo(top);
+			log.info("ranker={}, candidates={}, nsPerOp={}, top{}Overlap={}, top{}FollowingRatio={}",
+					ranker.name(), features.size(), nanosPerOp,
+					TOP_K, overlap(baseline, top), TOP_K, followingRatio(features, top));
+		}
+	}
+
+	@Test
+	@DisplayName("순위 계산기 비교 - 기본 계산기는 기준 결과와 완전히 겹침")
+	void compareRankers_baseline() {
+		// given
+		FeedFeatures features = fixture();
+
+		// when
+		int[] top = topK(new DefaultFeedRanker(), features);
+
+		// then
+		assertThat(overlap(topK(new DefaultFeedRanker(), features), top)).isEqualTo(1.0D);
+		assertThat(top).hasSize(TOP_K);
+	}
+
+	/**
+	 * 비교할 순위 계산기입니다, 인기 점수만 쓰는 계산기는 비교 기준선으로 둡니다
+	 */
+	private static List<FeedRanker> rankers() {
+		return List.of(new DefaultFeedRanker(), new ScoreOnlyFeedRanker());
+	}
+
+	private static FeedFeatures fixture() {
+		Random random = new Random(SEED);
+		List<FeedCandidate> candidates = new ArrayList<>(CANDIDATE_SIZE);
+		for (int i = 0; i < CANDIDATE_SIZE; i++) {
+			candidates.add(new FeedCandidate(
+					i + 1L,
+					random.nextInt(AUTHOR_SIZE) + 1L,
+					random.nextInt(10_000),
+					random.nextInt(200),
+					random.nextDouble() * 500,
+					NOW.minus(random.nextInt(24 * 30), ChronoUnit.HOURS)
+			));
+		}
+
+		Set<Long> followingIds = new HashSet<>();
+		Map<Long, Double> authorAffinities = new HashMap<>();
+		for (long authorId = 1; authorId <= FOLLOWING_SIZE; authorId++) {
+			followingIds.add(authorId);
+			authorAffinities.put(authorId, random.nextDouble());
+		}
+		return FeedFeatures.extract(candidates, followingIds, authorAffinities, NOW);
+	}
+
+	private static long measure(FeedRanker ranker, FeedFeatures features, double[] scores) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			ranker.score(features, scores);
+		}
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+			ranker.score(features, scores);
+		}
+		return (System.nanoTime() - startedAt) / MEASURE_ITERATIONS;
+	}
+
+	private static int[] topK(FeedRanker ranker, FeedFeatures features) {
+		double[] scores = new double[features.size()];
+		ranker.score(features, scores);
+		return IntStream.range(0, features.size())
+				.boxed()
+				.sorted(Comparator.<Integer>comparingDouble(i -> scores[i]).reversed().thenComparingInt(i -> i))
+				.limit(TOP_K)
+				.mapToInt(Integer::intValue)
+				.toArray();
+	}
+
+	private static double overlap(int[] baseline, int[] top) {
+		int[] sorted = baseline.clone();
+		Arrays.sort(sorted);
+		long matched = Arrays.stream(top).filter(index -> Arrays.binarySearch(sorted, index) >= 0).count();
+		return (double) matched / TOP_K;
+	}
+
+	private static double followingRatio(FeedFeatures features, int[] top) {
+		long following = Arrays.stream(top).filter(features::following).count();
+		return (double) following / top.length;
+	}
+
+	private static final class ScoreOnlyFeedRanker implements FeedRanker {
+
+		@Override
+		public String name() {
+			return "score-only";
+		}
+
+		@Override
+		public void score(FeedFeatures features, double[] scores) {
+			for (int i = 0; i < features.size(); i++) {
+				scores[i] = features.score(i);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,79 @@
+package dev.kyudong.back.feed;
+
+import dev.kyudong.back.feed.api.dto.FeedCandidate;
+import dev.kyudong.back.feed.properties.FeedProperties;
+import dev.kyudong.back.feed.ranker.DefaultFeedRanker;
+import dev.kyudong.back.feed.ranker.FeedFeatures;
+import dev.kyudong.back.feed.ranker.FeedRanker;
+import dev.kyudong.back.feed.ranker.FeedRankerSelector;
+import dev.kyudong.back.testhelper.base.UnitTestBase;
+import dev.kyudong.back.testhelper.fixture.FeedPropertiesFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class FeedRankerTests extends UnitTestBase {
+
+	private final DefaultFeedRanker defaultFeedRanker = new DefaultFeedRanker();
+
+	@Test
+	@DisplayName("기본 순위 계산기 - 인기도, 경과 시간, 팔로우 가중치 반영")
+	void defaultRanker_score() {
+		// given
+		Instant now = Instant.now();
+		List<FeedCandidate> candidates = List.of(
+				new FeedCandidate(1L, 10L, 100L, 5L, 50.0D, now.minus(84, ChronoUnit.HOURS)),
+				new FeedCandidate(2L, 20L, 100L, 5L, 50.0D, now.minus(84, ChronoUnit.HOURS)),
+				new FeedCandidate(3L, 20L, 0L, 0L, 0.0D, now.minus(30, ChronoUnit.DAYS))
+		);
+		FeedFeatures features = FeedFeatures.extract(candidates, Set.of(10L), Map.of(), now);
+		double[] scores = new double[features.size()];
+
+		// when
+		defaultFeedRanker.score(features, scores);
+
+		// then
+		assertThat(scores[1]).isCloseTo((10.0 + 50.0 + 6.0 + 1) * 0.5, within(1e-9));
+		assertThat(scores[0]).isCloseTo(scores[1] * 5.0, within(1e-9));
+		assertThat(scores[2]).isCloseTo(0.1, within(1e-9));
+	}
+
+	@Test
+	@DisplayName("순위 계산기 선택 - 실험 비율에 포함된 사용자는 실험용 계산기 사용")
+	void selector_experiment() {
+		// given
+		FeedRanker experimentRanker = new FeedRanker() {
+			@Override
+			public String name() {
+				return "experiment";
+			}
+
+			@Override
+			public void score(FeedFeatures features, double[] scores) {
+			}
+		};
+		FeedRankerSelector allExperiment = selector(List.of(defaultFeedRanker, experimentRanker), 100);
+		FeedRankerSelector noExperiment = selector(List.of(defaultFeedRanker, experimentRanker), 0);
+
+		// when & then
+		assertThat(allExperiment.select(1L).name()).isEqualTo("experiment");
+		assertThat(allExperiment.select(null).name()).isEqualTo(DefaultFeedRanker.NAME);
+		assertThat(noExperiment.select(1L).name()).isEqualTo(DefaultFeedRanker.NAME);
+	}
+
+	private static FeedRankerSelector selector(List<FeedRanker> rankers, int experimentPercent) {
+		FeedProperties feedProperties = FeedPropertiesFixture.builder()
+				.ranking(new FeedProperties.Ranking(DefaultFeedRanker.NAME, "experiment", experimentPercent))
+				.build();
+		return new FeedRankerSelector(rankers, feedProperties);
+	}
+
+}
@@ -2,10 +2,12 @@ package dev.kyudong.back.interaction;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.kyudong.back.common.config.SecurityConfig;
+import dev.kyudong.back.common.exception.InvalidInputException;
 import dev.kyudong.back.common.jwt.JwtUtil;
 import dev.kyudong.back.interaction.api.InteractionController;
 import dev.kyudong.back.interaction.api.dto.req.InteractionReqDto;
 import dev.kyudong.back.interaction.api.dto.res.InteractionResDto;
+import dev.kyudong.back.interaction.api.dto.res.MyInteractionsResDto;
 import dev.kyudong.back.interaction.domain.InteractionType;
 import dev.kyudong.back.interaction.domain.TargetType;
 import dev.kyudong.back.interaction.service.InteractionService;
@@ -23,8 +25,16 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -77,7 +87,7 @@ public class InteractionControllerTests {
 		User mockUser= makeMockUser();
 		Post mockPost = makeMockPost(mockUser);
 		InteractionReqDto request = new InteractionReqDto(InteractionType.LAUGH);
-		InteractionResDto response = new InteractionResDto(1L, 1L, TargetType.POST, mockPost.getId(), InteractionType.LAUGH);
+		InteractionResDto response = new InteractionResDto(1L, TargetType.POST, mockPost.getId(), InteractionType.LAUGH);
 		given(interactionService.doInteraction(1L, TargetType.POST, mockPost.getId(), request))
 				.willReturn(response);
 
@@ -114,6 +124,45 @@ public class InteractionControllerTests {
 				.andDo(print());
 	}
 
+	@Test
+	@DisplayName("내 상호작용 조회 API - 성공")
+	@WithMockCustomUser
+	void findMyInteractionsApi_success() throws Exception {
+		// given
+		MyInteractionsResDto response = MyInteractionsResDto.of(TargetType.POST, Map.of(1L, InteractionType.LIKE));
+		given(interactionService.findMyInteractions(1L, TargetType.POST, List.of(1L, 2L)))
+				.willReturn(response);
+
+		// when & then
+		mockMvc.perform(get("/api/v1/interaction/{targetType}/me", TargetType.POST.name())
+						.param("targetIds", "1", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.targetType").value(TargetType.POST.name()))
+				.andExpect(jsonPath("$.interactions['1']").value(InteractionType.LIKE.name()))
+				.andExpect(jsonPath("$.interactions['2']").doesNotExist())
+				.andDo(print());
+	}
+
+	@Test
+	@DisplayName("내 상호작용 조회 API - 실패 - 조회 대상이 100개 초과")
+	@WithMockCustomUser
+	void findMyInteractionsApi_fail_tooManyTargets() throws Exception {
+		// given
+		String targetIds = LongStream.rangeClosed(1, 101)
+				.mapToObj(String::valueOf)
+				.collect(Collectors.joining(","));
+		given(interactionService.findMyInteractions(eq(1L), eq(TargetType.POST), anyList()))
+				.willThrow(new InvalidInputException("targetIds size must be 100 or less"));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/interaction/{targetType}/me", TargetType.POST.name())
+						.param("targetIds", targetIds))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.title").value("Invalid Input Value"))
+				.andExpect(jsonPath("$.status").value(400))
+				.andDo(print());
+	}
+
 	@Test
 	@DisplayName("상호작용 요청 API - 성공")
 	@WithMockCustomUser
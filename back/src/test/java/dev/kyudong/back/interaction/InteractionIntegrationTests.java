@@ -10,6 +10,7 @@ import dev.kyudong.back.interaction.domain.Interaction;
 import dev.kyudong.back.interaction.domain.InteractionType;
 import dev.kyudong.back.interaction.domain.TargetType;
 import dev.kyudong.back.interaction.repository.InteractionRepository;
+import dev.kyudong.back.interaction.service.InteractionWriter;
 import dev.kyudong.back.post.domain.entity.Post;
 import dev.kyudong.back.post.adapter.out.persistence.repository.PostRepository;
 import dev.kyudong.back.user.domain.User;
@@ -49,6 +50,9 @@ public class InteractionIntegrationTests extends IntegrationTestBase {
 	@Autowired
 	private InteractionRepository interactionRepository;
 
+	@Autowired
+	private InteractionWriter interactionWriter;
+
 	@Autowired
 	private PasswordEncoder passwordEncoder;
 
@@ -124,11 +128,12 @@ public class InteractionIntegrationTests extends IntegrationTestBase {
 		assertThat(response.targetType()).isEqualTo(TargetType.POST);
 		assertThat(response.interactionType()).isEqualTo(InteractionType.LAUGH);
 
-		Optional<Interaction> interactionOptional = interactionRepository.findById(response.id());
+		interactionWriter.flush();
+		Optional<Interaction> interactionOptional = interactionRepository.findByUserAndTargetIdAndTargetType(user, post.getId(), TargetType.POST);
 		assertThat(interactionOptional).isPresent();
 
 		Interaction interaction = interactionOptional.get();
-		assertThat(interaction.getTargetId()).isEqualTo(post.getId());
+		assertThat(interaction.getInteractionType()).isEqualTo(InteractionType.LAUGH);
 	}
 
 	@Test
@@ -146,6 +151,7 @@ public class InteractionIntegrationTests extends IntegrationTestBase {
 				.andDo(print());
 
 		// then
+		interactionWriter.flush();
 		Optional<Interaction> interactionOptional = interactionRepository.findById(interaction.getId());
 		assertThat(interactionOptional).isNotPresent();
 	}
@@ -1,12 +1,16 @@
 package dev.kyudong.back.interaction;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import dev.kyudong.back.common.exception.InvalidInputException;
+import dev.kyudong.back.interaction.api.dto.event.InteractionScoreEvent;
 import dev.kyudong.back.interaction.api.dto.req.InteractionReqDto;
 import dev.kyudong.back.interaction.api.dto.res.InteractionResDto;
-import dev.kyudong.back.interaction.domain.Interaction;
+import dev.kyudong.back.interaction.api.dto.res.MyInteractionsResDto;
 import dev.kyudong.back.interaction.domain.InteractionType;
 import dev.kyudong.back.interaction.domain.TargetType;
-import dev.kyudong.back.interaction.repository.InteractionRepository;
+import dev.kyudong.back.interaction.exception.InteractionNotFoundException;
+import dev.kyudong.back.interaction.repository.InteractionStateRepository;
+import dev.kyudong.back.interaction.service.InteractionCounter;
 import dev.kyudong.back.interaction.service.InteractionService;
 import dev.kyudong.back.interaction.strategy.InteractionStrategy;
 import dev.kyudong.back.interaction.strategy.PostInteractionStrategy;
@@ -14,7 +18,6 @@ import dev.kyudong.back.post.domain.entity.Post;
 import dev.kyudong.back.post.adapter.out.persistence.exception.PostNotFoundException;
 import dev.kyudong.back.testhelper.base.UnitTestBase;
 import dev.kyudong.back.user.domain.User;
-import dev.kyudong.back.user.service.UserReaderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,7 +26,9 @@ import org.mockito.Mock;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,13 +38,13 @@ import static org.mockito.BDDMockito.*;
 public class InteractionServiceTests extends UnitTestBase {
 
 	@Mock
-	private InteractionRepository interactionRepository;
+	private InteractionStateRepository interactionStateRepository;
 
 	@Mock
-	private PostInteractionStrategy postInteractionStrategy;
+	private InteractionCounter interactionCounter;
 
 	@Mock
-	private UserReaderService userReaderService;
+	private PostInteractionStrategy postInteractionStrategy;
 
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
@@ -50,8 +55,8 @@ public class InteractionServiceTests extends UnitTestBase {
 	void setUp() {
 		List<InteractionStrategy> strategies = List.of(postInteractionStrategy);
 		interactionService = new InteractionService(
-				interactionRepository,
-				userReaderService,
+				interactionStateRepository,
+				interactionCounter,
 				strategies,
 				eventPublisher
 		);
@@ -66,19 +71,12 @@ public class InteractionServiceTests extends UnitTestBase {
 		void success_create() throws JsonProcessingException {
 			// given
 			User mockUser = createMockUser();
-			given(userReaderService.getUserReference(mockUser.getId())).willReturn(mockUser);
-
 			Post mockPost = createMockPost(mockUser);
 			given(postInteractionStrategy.supports(TargetType.POST)).willReturn(true);
 			doNothing().when(postInteractionStrategy).existsTarget(anyLong());
 
-			Interaction newInteraction = Interaction.builder()
-					.user(mockUser)
-					.targetType(TargetType.POST)
-					.targetId(mockPost.getId())
-					.interactionType(InteractionType.LAUGH)
-					.build();
-			given(interactionRepository.save(any(Interaction.class))).willReturn(newInteraction);
+			given(interactionStateRepository.put(mockUser.getId(), TargetType.POST, mockPost.getId(), InteractionType.LAUGH))
+					.willReturn(Optional.empty());
 			InteractionReqDto request = new InteractionReqDto(InteractionType.LAUGH);
 
 			// when
@@ -91,6 +89,7 @@ public class InteractionServiceTests extends UnitTestBase {
 			assertThat(response.targetId()).isEqualTo(mockPost.getId());
 			assertThat(response.targetType()).isEqualTo(TargetType.POST);
 			assertThat(response.interactionType()).isEqualTo(InteractionType.LAUGH);
+			then(eventPublisher).should().publishEvent(new InteractionScoreEvent(mockPost.getId(), InteractionType.LAUGH.getInteractionScore()));
 		}
 
 		@Test
@@ -98,21 +97,12 @@ public class InteractionServiceTests extends UnitTestBase {
 		void success_update() throws JsonProcessingException {
 			// given
 			User mockUser = createMockUser();
-			given(userReaderService.getUserReference(mockUser.getId())).willReturn(mockUser);
-
 			Post mockPost = createMockPost(mockUser);
 			given(postInteractionStrategy.supports(TargetType.POST)).willReturn(true);
 			doNothing().when(postInteractionStrategy).existsTarget(anyLong());
 
-			Interaction interaction = Interaction.builder()
-					.user(mockUser)
-					.targetType(TargetType.POST)
-					.targetId(mockPost.getId())
-					.interactionType(InteractionType.LAUGH)
-					.build();
-			given(interactionRepository.findByUserAndTargetIdAndTargetType(any(User.class), anyLong(), any(TargetType.class)))
-					.willReturn(Optional.of(interaction));
-
+			given(interactionStateRepository.put(mockUser.getId(), TargetType.POST, mockPost.getId(), InteractionType.ANGRY))
+					.willReturn(Optional.of(InteractionType.LAUGH));
 			InteractionReqDto request = new InteractionReqDto(InteractionType.ANGRY);
 
 			// when
@@ -125,8 +115,30 @@ public class InteractionServiceTests extends UnitTestBase {
 			assertThat(response.targetId()).isEqualTo(mockPost.getId());
 			assertThat(response.targetType()).isEqualTo(TargetType.POST);
 			assertThat(response.interactionType()).isEqualTo(InteractionType.ANGRY);
+			double expectedDelta = InteractionType.ANGRY.getInteractionScore() - InteractionType.LAUGH.getInteractionScore();
+			then(eventPublisher).should().publishEvent(new InteractionScoreEvent(mockPost.getId(), expectedDelta));
+			then(interactionCounter).should().change(TargetType.POST, mockPost.getId(), InteractionType.LAUGH, InteractionType.ANGRY);
 		}
 
+		@Test
+		@DisplayName("성공 : 같은 상호작용을 반복하면 점수가 바뀌지 않음")
+		void success_same() throws JsonProcessingException {
+			// given
+			User mockUser = createMockUser();
+			Post mockPost = createMockPost(mockUser);
+			given(postInteractionStrategy.supports(TargetType.POST)).willReturn(true);
+			doNothing().when(postInteractionStrategy).existsTarget(anyLong());
+
+			given(interactionStateRepository.put(mockUser.getId(), TargetType.POST, mockPost.getId(), InteractionType.LAUGH))
+					.willReturn(Optional.of(InteractionType.LAUGH));
+			InteractionReqDto request = new InteractionReqDto(InteractionType.LAUGH);
+
+			// when
+			interactionService.doInteraction(mockUser.getId(), TargetType.POST, mockPost.getId(), request);
+
+			// then
+			then(eventPublisher).should(never()).publishEvent(any(InteractionScoreEvent.class));
+		}
 
 		@Test
 		@DisplayName("실패 : 요청 대상을 찾을 수 없음")
@@ -143,7 +155,7 @@ public class InteractionServiceTests extends UnitTestBase {
 			// when & then
 			assertThatThrownBy(() -> interactionService.doInteraction(mockUser.getId(), TargetType.POST, mockPost.getId(), request))
 					.isInstanceOf(PostNotFoundException.class);
-			then(interactionRepository).should(never()).save(any(Interaction.class));
+			then(interactionStateRepository).should(never()).put(anyLong(), any(TargetType.class), anyLong(), any(InteractionType.class));
 		}
 
 	}
@@ -157,27 +169,73 @@ public class InteractionServiceTests extends UnitTestBase {
 		void deleteInteraction_success() throws JsonProcessingException {
 			// given
 			User mockUser = createMockUser();
-			given(userReaderService.getUserReference(mockUser.getId())).willReturn(mockUser);
+			Post mockPost = createMockPost(mockUser);
+			given(postInteractionStrategy.supports(TargetType.POST)).willReturn(true);
+			doNothing().when(postInteractionStrategy).existsTarget(anyLong());
+
+			given(interactionStateRepository.remove(mockUser.getId(), TargetType.POST, mockPost.getId()))
+					.willReturn(Optional.of(InteractionType.LAUGH));
+
+			// when
+			interactionService.deleteInteraction(mockUser.getId(), TargetType.POST, mockPost.getId());
+
+			// then
+			then(eventPublisher).should().publishEvent(new InteractionScoreEvent(mockPost.getId(), -InteractionType.LAUGH.getInteractionScore()));
+		}
 
+		@Test
+		@DisplayName("상호작용 삭제  - 실패 : 상호작용한 기록이 없음")
+		void deleteInteraction_notFound() throws JsonProcessingException {
+			// given
+			User mockUser = createMockUser();
 			Post mockPost = createMockPost(mockUser);
 			given(postInteractionStrategy.supports(TargetType.POST)).willReturn(true);
 			doNothing().when(postInteractionStrategy).existsTarget(anyLong());
 
-			Interaction interaction = Interaction.builder()
-					.user(mockUser)
-					.targetType(TargetType.POST)
-					.targetId(mockPost.getId())
-					.interactionType(InteractionType.LAUGH)
-					.build();
+			given(interactionStateRepository.remove(mockUser.getId(), TargetType.POST, mockPost.getId()))
+					.willReturn(Optional.empty());
+
+			// when & then
+			assertThatThrownBy(() -> interactionService.deleteInteraction(mockUser.getId(), TargetType.POST, mockPost.getId()))
+					.isInstanceOf(InteractionNotFoundException.class);
+			then(eventPublisher).should(never()).publishEvent(any(InteractionScoreEvent.class));
+		}
+
+	}
+
+	@Nested
+	@DisplayName("내 상호작용 일괄 조회")
+	class FindMyInteractions {
 
-			given(interactionRepository.findByUserAndTargetIdAndTargetType(any(User.class), anyLong(), any(TargetType.class)))
-					.willReturn(Optional.of(interaction));
+		@Test
+		@DisplayName("성공 : 상호작용한 대상만 반환")
+		void success() {
+			// given
+			List<Long> targetIds = List.of(1L, 2L, 3L);
+			given(interactionStateRepository.findAll(eq(1L), eq(TargetType.POST), anyCollection()))
+					.willReturn(Map.of(1L, InteractionType.LIKE, 3L, InteractionType.WOW));
 
 			// when
-			interactionService.deleteInteraction(mockUser.getId(), TargetType.POST, mockPost.getId());
+			MyInteractionsResDto response = interactionService.findMyInteractions(1L, TargetType.POST, targetIds);
 
 			// then
-			then(interactionRepository).should().delete(any(Interaction.class));
+			assertThat(response.targetType()).isEqualTo(TargetType.POST);
+			assertThat(response.interactions())
+					.containsEntry(1L, InteractionType.LIKE)
+					.containsEntry(3L, InteractionType.WOW)
+					.doesNotContainKey(2L);
+		}
+
+		@Test
+		@DisplayName("실패 : 조회할 대상이 너무 많음")
+		void fail_tooManyTargets() {
+			// given
+			List<Long> targetIds = LongStream.rangeClosed(1, InteractionService.MAX_LOOKUP_SIZE + 1).boxed().toList();
+
+			// when & then
+			assertThatThrownBy(() -> interactionService.findMyInteractions(1L, TargetType.POST, targetIds))
+					.isInstanceOf(InvalidInputException.class);
+			then(interactionStateRepository).should(never()).findAll(anyLong(), any(TargetType.class), anyCollection());
 		}
 
 	}
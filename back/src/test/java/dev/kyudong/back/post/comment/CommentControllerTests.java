@@ -96,12 +96,10 @@ public class CommentControllerTests {
 		User mockUser = makeMockUser();
 		Post mockPost = makeMockPost(mockUser);
 		Long postId = mockPost.getId();
-		List<Comment> comments = new ArrayList<>();
-		for (int i = 1; i <= 100; i++) {
-			Comment mockComment = makeMockComment(mockPost, mockUser);
-			ReflectionTestUtils.setField(mockComment, "id", (long) i);
-			mockPost.addComment(mockComment);
-			comments.add(mockComment);
+		List<CommentItemResDto> comments = new ArrayList<>();
+		for (int i = 1; i <= 21; i++) {
+			comments.add(new CommentItemResDto((long) i, mockUser.getId(), mockUser.getUsername(),
+					"Hello Comment", CommentStatus.NORMAL, Instant.now()));
 		}
 
 		CommentListResDto response = CommentListResDto.from(comments);
@@ -28,8 +28,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -93,6 +93,7 @@ public class CommentServiceTests extends UnitTestBase {
 			assertThat(mockPost.getCommentList()).hasSize(1);
 			assertThat(mockPost.getCommentList().get(0).getContent()).isEqualTo(mockComment.getContent());
 			then(commentPersistencePort).should().save(any(Comment.class));
+			then(postUsecase).should().increaseCommentCount(postId);
 		}
 
 		@ParameterizedTest
@@ -236,6 +237,7 @@ public class CommentServiceTests extends UnitTestBase {
 			assertThat(response.status()).isEqualTo(CommentStatus.DELETED);
 			then(postUsecase).should().validatePostExists(anyLong());
 			then(commentPersistencePort).should().findByIdOrThrow(anyLong());
+			then(postUsecase).should().decreaseCommentCount(mockPost.getId());
 		}
 
 		@Test
@@ -291,13 +293,11 @@ public class CommentServiceTests extends UnitTestBase {
 			User mockUser = createMockUser();
 			Post mockPost = createMockPost(mockUser);
 
-			// 댓글 생성
-			List<Comment> list = new ArrayList<>();
-			for (int i = 1; i <= 100; i++) {
-				Comment mockComment = makeMockComment(mockPost, mockUser);
-				ReflectionTestUtils.setField(mockComment, "id", (long) i);
-				mockPost.addComment(mockComment);
-				list.add(mockComment);
+			// 조회 쿼리는 페이지 크기보다 하나 더 조회합니다
+			List<CommentItemResDto> list = new ArrayList<>();
+			for (int i = 21; i >= 1; i--) {
+				list.add(new CommentItemResDto((long) i, mockUser.getId(), mockUser.getUsername(),
+						createMockContent(), CommentStatus.NORMAL, Instant.now()));
 			}
 
 			given(commentQueryPort.findByNewCommentByCursor(mockPost.getId(), null)).willReturn(list);
@@ -308,6 +308,7 @@ public class CommentServiceTests extends UnitTestBase {
 			// then
 			assertThat(response.comments().size()).isEqualTo(20);
 			assertThat(response.hasNext()).isTrue();
+			assertThat(response.cursorId()).isEqualTo(2L);
 			then(commentQueryPort).should().findByNewCommentByCursor(anyLong(), isNull());
 			then(commentQueryPort).should(never()).findByOldCommentByCursor(anyLong(), anyLong());
 		}
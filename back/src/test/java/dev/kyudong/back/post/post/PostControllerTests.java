@@ -99,7 +99,8 @@ public class PostControllerTests {
 				"contents",
 				PostStatus.NORMAL,
 				LocalDateTime.now(),
-				LocalDateTime.now()
+				LocalDateTime.now(),
+				Map.of()
 		);
 		given(postUsecase.findPostByIdWithUser(eq(userId), eq(postId))).willReturn(response);
 
@@ -125,7 +126,8 @@ public class PostControllerTests {
 				"test",
 				PostStatus.NORMAL,
 				LocalDateTime.now(),
-				LocalDateTime.now()
+				LocalDateTime.now(),
+				Map.of()
 		);
 		given(postUsecase.findPostByIdWithGuest(eq(guestId), eq(postId))).willReturn(response);
 
@@ -8,6 +8,8 @@ import dev.kyudong.back.post.application.port.in.web.TagUsecase;
 import dev.kyudong.back.post.application.port.out.event.PostEventPublishPort;
 import dev.kyudong.back.post.application.port.out.event.PostViewEventPublishPort;
 import dev.kyudong.back.post.application.port.out.web.PostPersistencePort;
+import dev.kyudong.back.post.application.port.out.web.PostInteractionCountPort;
+import dev.kyudong.back.post.application.port.out.web.PostSeenPort;
 import dev.kyudong.back.post.application.service.web.PostService;
 import dev.kyudong.back.post.domain.dto.web.req.PostCreateReqDto;
 import dev.kyudong.back.post.domain.dto.web.req.PostStatusUpdateReqDto;
@@ -28,8 +30,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.redisson.api.RBloomFilter;
-import org.redisson.api.RedissonClient;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.util.*;
@@ -64,10 +64,10 @@ public class PostServiceTests extends UnitTestBase {
 	private PostViewEventPublishPort postViewEventPublishPort;
 
 	@Mock
-	private RedissonClient redissonClient;
+	private PostSeenPort postSeenPort;
 
 	@Mock
-	private RBloomFilter<Long> bloomFilter;
+	private PostInteractionCountPort postInteractionCountPort;
 
 	@Nested
 	@DisplayName("게시글 생성")
@@ -301,9 +301,6 @@ public class PostServiceTests extends UnitTestBase {
 
 			doNothing().when(postViewEventPublishPort).increasePostViewWithUser(any(User.class), any(Post.class));
 
-			doReturn(bloomFilter).when(redissonClient).getBloomFilter(anyString());
-			given(bloomFilter.add(anyLong())).willReturn(true);
-
 			given(userReaderService.getUserReference(999L)).willReturn(createMockUser());
 
 			// when
@@ -311,6 +308,7 @@ public class PostServiceTests extends UnitTestBase {
 
 			// then
 			then(postPersistencePort).should(times(1)).findByIdOrThrow(postId);
+			then(postSeenPort).should().markSeenByUser(999L, postId);
 			assertThat(response.postId()).isEqualTo(postId);
 			assertThat(response.subject()).isNotNull();
 			assertThat(response.content()).isNotNull();
@@ -332,14 +330,12 @@ public class PostServiceTests extends UnitTestBase {
 			String guestId = UUID.randomUUID().toString();
 			doNothing().when(postViewEventPublishPort).increasePostViewWithGuest(anyString(), any(Post.class));
 
-			doReturn(bloomFilter).when(redissonClient).getBloomFilter(anyString());
-			given(bloomFilter.add(anyLong())).willReturn(true);
-
 			// when
 			PostDetailResDto response = postService.findPostByIdWithGuest(guestId, postId);
 
 			// then
 			then(postPersistencePort).should(times(1)).findByIdOrThrow(postId);
+			then(postSeenPort).should().markSeenByGuest(guestId, postId);
 			assertThat(response.postId()).isEqualTo(postId);
 			assertThat(response.subject()).isNotNull();
 			assertThat(response.content()).isNotNull();
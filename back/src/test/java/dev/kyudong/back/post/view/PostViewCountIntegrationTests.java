@@ -0,0 +1,158 @@
+package dev.kyudong.back.post.view;
+
+import dev.kyudong.back.post.adapter.in.sceduler.PostScheduler;
+import dev.kyudong.back.post.application.port.out.web.PostViewCountPort;
+import dev.kyudong.back.testhelper.base.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class PostViewCountIntegrationTests extends IntegrationTestBase {
+
+	private static final String COUNT_KEY = "post:view_counts";
+	private static final String FLUSHING_KEY = "post:view_counts:flushing";
+	private static final String GUEST_DIRTY_KEY = "post:guest_viewers:dirty";
+	private static final String GUEST_MERGING_KEY = "post:guest_viewers:dirty:merging";
+	private static final long GUEST_WINDOW_MILLIS = Duration.ofHours(72).toMillis();
+
+	@Autowired
+	private PostViewCountPort postViewCountPort;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	// 예약된 반영 작업이 테스트 중인 누적분을 가져가지 않도록 막습니다
+	@MockitoBean
+	private PostScheduler postScheduler;
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.delete(List.of(COUNT_KEY, FLUSHING_KEY, GUEST_DIRTY_KEY, GUEST_MERGING_KEY));
+	}
+
+	@Test
+	@DisplayName("조회수 누적 - 메모리 누적분을 Redis 해시에 합치고 반영 후 삭제")
+	void publishAndClaim() {
+		// given
+		postViewCountPort.increase(1L);
+		postViewCountPort.increase(1L);
+		postViewCountPort.increase(2L);
+
+		// when
+		postViewCountPort.publish();
+		postViewCountPort.increase(1L);
+		postViewCountPort.publish();
+
+		// then
+		assertThat(redisTemplate.<String, String>opsForHash().entries(COUNT_KEY))
+				.containsEntry("1", "3")
+				.containsEntry("2", "1");
+
+		Map<Long, Long> claimed = postViewCountPort.claim();
+		assertThat(claimed).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3L, 2L, 1L));
+		assertThat(redisTemplate.hasKey(COUNT_KEY)).isFalse();
+
+		postViewCountPort.complete();
+		assertThat(redisTemplate.hasKey(FLUSHING_KEY)).isFalse();
+		assertThat(postViewCountPort.claim()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("조회수 누적 - 반영하지 못한 처리 중 누적분을 먼저 다시 반환")
+	void claim_retriesUnfinishedFlush() {
+		// given
+		postViewCountPort.increase(1L);
+		postViewCountPort.publish();
+		postViewCountPort.claim();
+
+		// when
+		postViewCountPort.increase(2L);
+		postViewCountPort.publish();
+		Map<Long, Long> retried = postViewCountPort.claim();
+
+		// then
+		assertThat(retried).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1L));
+		postViewCountPort.complete();
+		assertThat(postViewCountPort.claim()).containsExactlyInAnyOrderEntriesOf(Map.of(2L, 1L));
+	}
+
+	@Test
+	@DisplayName("게스트 조회수 - 같은 구간의 같은 게스트는 한 번만, 이후 반영은 증가분만 집계")
+	void guestViews_countedOncePerWindow() {
+		// given
+		long postId = randomPostId();
+		postViewCountPort.increaseGuest(postId, "guest-1");
+		postViewCountPort.increaseGuest(postId, "guest-1");
+		postViewCountPort.increaseGuest(postId, "guest-2");
+
+		// when
+		Map<Long, Long> first = postViewCountPort.claim();
+		postViewCountPort.complete();
+		postViewCountPort.increaseGuest(postId, "guest-1");
+		postViewCountPort.increaseGuest(postId, "guest-3");
+		Map<Long, Long> second = postViewCountPort.claim();
+		postViewCountPort.complete();
+
+		// then
+		assertThat(first).containsEntry(postId, 2L);
+		assertThat(second).containsEntry(postId, 1L);
+	}
+
+	@Test
+	@DisplayName("게스트 조회수 - 방문자 집합은 epoch 기준 72시간 구간에 묶이고 구간 끝 10분 뒤 만료")
+	void guestViews_epochAlignedWindow() {
+		// given
+		long postId = randomPostId();
+		long window = Instant.now().toEpochMilli() / GUEST_WINDOW_MILLIS;
+
+		// when
+		postViewCountPort.increaseGuest(postId, "guest-1");
+
+		// then
+		String viewersKey = "post:guest_viewers:" + window + ":" + postId;
+		assertThat(redisTemplate.hasKey(viewersKey)).isTrue();
+		assertThat(redisTemplate.opsForSet().isMember(GUEST_DIRTY_KEY, window + ":" + postId)).isTrue();
+
+		long expectedExpireAt = (window + 1) * GUEST_WINDOW_MILLIS + Duration.ofMinutes(10).toMillis();
+		long expireAt = System.currentTimeMillis() + redisTemplate.getExpire(viewersKey, TimeUnit.MILLISECONDS);
+		assertThat(expireAt).isCloseTo(expectedExpireAt, within(5_000L));
+	}
+
+	@Test
+	@DisplayName("게스트 조회수 - 구간이 바뀌면 같은 게스트도 다시 집계")
+	void guestViews_newWindowCountsAgain() {
+		// given
+		long postId = randomPostId();
+		long window = Instant.now().toEpochMilli() / GUEST_WINDOW_MILLIS;
+		// 이전 구간에 기록된 조회
+		String previousKey = "post:guest_viewers:" + (window - 1) + ":" + postId;
+		redisTemplate.opsForHyperLogLog().add(previousKey, "guest-1");
+		redisTemplate.opsForSet().add(GUEST_DIRTY_KEY, (window - 1) + ":" + postId);
+
+		// when
+		postViewCountPort.increaseGuest(postId, "guest-1");
+		Map<Long, Long> claimed = postViewCountPort.claim();
+		postViewCountPort.complete();
+
+		// then
+		assertThat(claimed).containsEntry(postId, 2L);
+	}
+
+	private static long randomPostId() {
+		return ThreadLocalRandom.current().nextLong(1_000_000L, Long.MAX_VALUE);
+	}
+
+}
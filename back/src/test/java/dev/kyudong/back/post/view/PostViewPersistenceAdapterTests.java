@@ -0,0 +1,93 @@
+package dev.kyudong.back.post.view;
+
+import dev.kyudong.back.post.adapter.out.persistence.adapter.PostViewPersistenceAdapter;
+import dev.kyudong.back.post.properties.PostProperties;
+import dev.kyudong.back.testhelper.base.UnitTestBase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+
+public class PostViewPersistenceAdapterTests extends UnitTestBase {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private MeterRegistry meterRegistry;
+
+	private PostViewPersistenceAdapter postViewPersistenceAdapter;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		PostProperties postProperties = new PostProperties(
+				new PostProperties.View(100, 500, Duration.ofSeconds(5)),
+				new PostProperties.Score(Duration.ofSeconds(5))
+		);
+		postViewPersistenceAdapter = new PostViewPersistenceAdapter(jdbcTemplate, postProperties, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("조회 기록 쓰기 - 묶음이 실패하면 한 건씩 다시 쓰고 무결성 위반 기록만 버림")
+	void flush_retriesRowByRow() {
+		// given
+		Instant now = Instant.now();
+		postViewPersistenceAdapter.recordView(1L, 10L, now);
+		postViewPersistenceAdapter.recordView(1L, 20L, now);
+		postViewPersistenceAdapter.recordView(2L, 10L, now);
+
+		// 여러 행을 담은 문장과 삭제된 게시글(20)을 가리키는 행은 실패합니다
+		given(jdbcTemplate.update(anyString(), any(Object[].class))).willAnswer(invocation -> {
+			Object[] args = (Object[]) invocation.getRawArguments()[1];
+			if (args.length > 4 || Long.valueOf(20L).equals(args[1])) {
+				throw new DataIntegrityViolationException("post_id");
+			}
+			return 1;
+		});
+
+		// when
+		postViewPersistenceAdapter.flush();
+
+		// then
+		assertThat(meterRegistry.counter("post.view.record.written").count()).isEqualTo(2.0D);
+		assertThat(meterRegistry.counter("post.view.record.dropped").count()).isEqualTo(1.0D);
+	}
+
+	@Test
+	@DisplayName("조회 기록 쓰기 - DB를 사용할 수 없으면 기록을 되돌려 다음 주기에 다시 씀")
+	void flush_requeuesOnTransientFailure() {
+		// given
+		Instant now = Instant.now();
+		postViewPersistenceAdapter.recordView(1L, 10L, now);
+		postViewPersistenceAdapter.recordView(2L, 10L, now);
+
+		willThrow(new TransientDataAccessResourceException("connection refused"))
+				.given(jdbcTemplate).update(anyString(), any(Object[].class));
+		postViewPersistenceAdapter.flush();
+
+		willReturn(2).given(jdbcTemplate).update(anyString(), any(Object[].class));
+
+		// when
+		postViewPersistenceAdapter.flush();
+
+		// then
+		assertThat(meterRegistry.counter("post.view.record.written").count()).isEqualTo(2.0D);
+		assertThat(meterRegistry.counter("post.view.record.dropped").count()).isZero();
+	}
+
+}
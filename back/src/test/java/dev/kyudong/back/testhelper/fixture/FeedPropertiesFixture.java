@@ -0,0 +1,104 @@
+package dev.kyudong.back.testhelper.fixture;
+
+import dev.kyudong.back.feed.properties.FeedProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 유닛 테스트용 {@link FeedProperties}를 만듭니다.
+ * 기본값은 application-test.yml과 같고, 테스트에 필요한 설정만 바꿔 사용해주세요.
+ * 설정이 추가되면 이곳의 기본값만 추가하면 됩니다
+ */
+public final class FeedPropertiesFixture {
+
+	private FeedProperties.Inbox inbox = new FeedProperties.Inbox(500, 5000, Duration.ofDays(14));
+	private FeedProperties.CandidatePool candidatePool = new FeedProperties.CandidatePool(100, 200, Duration.ofMinutes(5));
+	private FeedProperties.Generation generation = new FeedProperties.Generation(
+			Duration.ofSeconds(30), Duration.ofMillis(300), Duration.ofMinutes(10),
+			Duration.ofMinutes(30), Duration.ofMinutes(60), Duration.ofDays(3)
+	);
+	private FeedProperties.Seen seen = new FeedProperties.Seen(14, 2000, 0.01, 100_000, Duration.ofSeconds(2));
+	private FeedProperties.CardCache cardCache = new FeedProperties.CardCache(
+			DataSize.ofMegabytes(32), Duration.ofSeconds(30), Duration.ofMinutes(10));
+	private FeedProperties.Diversity diversity = new FeedProperties.Diversity(2, 20);
+	private FeedProperties.Ranking ranking = new FeedProperties.Ranking("default", null, 0);
+	private FeedProperties.Deadline deadline = new FeedProperties.Deadline(Duration.ofMillis(800), Duration.ofMillis(1500));
+	private FeedProperties.Prewarm prewarm = new FeedProperties.Prewarm(2, 200, Duration.ofMinutes(5));
+	private FeedProperties.Guest guest = new FeedProperties.Guest(8, Duration.ofMinutes(1));
+	private FeedProperties.OldPosts oldPosts = new FeedProperties.OldPosts(6, 300, 1000, Duration.ofDays(180), Duration.ofHours(3));
+
+	private FeedPropertiesFixture() {
+	}
+
+	public static FeedPropertiesFixture builder() {
+		return new FeedPropertiesFixture();
+	}
+
+	public static FeedProperties defaults() {
+		return builder().build();
+	}
+
+	public FeedPropertiesFixture inbox(FeedProperties.Inbox inbox) {
+		this.inbox = inbox;
+		return this;
+	}
+
+	public FeedPropertiesFixture candidatePool(FeedProperties.CandidatePool candidatePool) {
+		this.candidatePool = candidatePool;
+		return this;
+	}
+
+	public FeedPropertiesFixture generation(FeedProperties.Generation generation) {
+		this.generation = generation;
+		return this;
+	}
+
+	public FeedPropertiesFixture seen(FeedProperties.Seen seen) {
+		this.seen = seen;
+		return this;
+	}
+
+	public FeedPropertiesFixture cardCache(FeedProperties.CardCache cardCache) {
+		this.cardCache = cardCache;
+		return this;
+	}
+
+	public FeedPropertiesFixture diversity(FeedProperties.Diversity diversity) {
+		this.diversity = diversity;
+		return this;
+	}
+
+	public FeedPropertiesFixture ranking(FeedProperties.Ranking ranking) {
+		this.ranking = ranking;
+		return this;
+	}
+
+	public FeedPropertiesFixture deadline(FeedProperties.Deadline deadline) {
+		this.deadline = deadline;
+		return this;
+	}
+
+	public FeedPropertiesFixture prewarm(FeedProperties.Prewarm prewarm) {
+		this.prewarm = prewarm;
+		return this;
+	}
+
+	public FeedPropertiesFixture guest(FeedProperties.Guest guest) {
+		this.guest = guest;
+		return this;
+	}
+
+	public FeedPropertiesFixture oldPosts(FeedProperties.OldPosts oldPosts) {
+		this.oldPosts = oldPosts;
+		return this;
+	}
+
+	public FeedProperties build() {
+		return new FeedProperties(
+				inbox, candidatePool, generation, seen, cardCache, diversity,
+				ranking, deadline, prewarm, guest, oldPosts
+		);
+	}
+
+}
@@ -5,6 +5,7 @@ import dev.kyudong.back.common.exception.InvalidInputException;
 import dev.kyudong.back.common.jwt.JwtUtil;
 import dev.kyudong.back.user.api.dto.UserLoginDto;
 import dev.kyudong.back.user.api.dto.UserReissueDto;
+import dev.kyudong.back.user.api.dto.event.UserSignInEvent;
 import dev.kyudong.back.user.api.dto.req.*;
 import dev.kyudong.back.user.domain.User;
 import dev.kyudong.back.user.domain.UserRole;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -46,6 +48,9 @@ public class UserAuthServiceTests extends UnitTestBase {
 	@Mock
 	private UserTokenRepository userTokenRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@Nested
 	@DisplayName("사용자 로그인")
 	class Login {
@@ -77,6 +82,7 @@ public class UserAuthServiceTests extends UnitTestBase {
 
 			then(userRepository).should().findByUsername(request.username());
 			then(userTokenRepository).should().saveToken(request.username(), refreshToken);
+			then(eventPublisher).should().publishEvent(any(UserSignInEvent.class));
 
 			then(jwtUtil).should().createAccessToken(any(User.class));
 			then(jwtUtil).should().createRefreshToken(any(User.class));
@@ -1,10 +1,11 @@
 import axiosClient from "../../../shared/axios";
 import type {FeedEntity} from "../model/types.ts";
 
-export const findFeeds = async (page:number): Promise<FeedEntity> => {
-  const params: Record<string, string | number> = {
-    page: page,
-  };
+export const findFeeds = async (cursor?: string): Promise<FeedEntity> => {
+  const params: Record<string, string> = {};
+  if (cursor) {
+    params.cursor = cursor;
+  }
 
   const response = await axiosClient.get(`/feeds`, {params});
   return response.data;
@@ -10,10 +10,10 @@ export const useFeedsQuery = () => {
   return useInfiniteQuery({
     queryKey: feedsQueryKeys.all,
     queryFn: ({pageParam}) => findFeeds(pageParam),
-    initialPageParam: 0,
+    initialPageParam: undefined as string | undefined,
     getNextPageParam: (page: FeedEntity) => {
-      if (page.hasNext) {
-        return page.nextPage;
+      if (page.hasNext && page.nextCursor) {
+        return page.nextCursor;
       }
       return undefined;
     }
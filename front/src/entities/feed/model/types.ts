@@ -1,6 +1,6 @@
 export interface FeedEntity {
   hasNext: boolean,
-  nextPage: number,
+  nextCursor: string | null,
   content: FeedItem[]
 }
 